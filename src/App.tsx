@@ -56,7 +56,6 @@ function App() {
           <Route path="/payment/:orderId" element={<PaymentPage />} />
           <Route path="/cart" element={<Cart />} />
           <Route path="/order" element={<OrderPage />} />
-          <Route path="/admin" element={<AdminPage />} />
           <Route path="/forgotpassword" element={<ForgotPassword />} />
           <Route path="/reset-password" element={<ResetPassword />} />
           <Route path="/verify-email" element={<VerifyEmail />} />
@@ -68,6 +67,10 @@ function App() {
 
 
 
+           <Route element={<ProtectedRoute role="ADMIN" />}>
+            <Route path="/admin" element={<AdminPage />} />
+          </Route>
+
            <Route element={<ProtectedRoute />}>
             <Route path="/wishlist" element={<Wishlist />} /> Api den çekilmedi
             <Route path="/account" element={<Profile />} /> // Api den çekildi
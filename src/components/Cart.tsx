@@ -3,6 +3,7 @@ import { useNavigate } from "react-router-dom";
 import { motion, AnimatePresence } from "framer-motion";
 import { Trash2, Plus, Minus, ShoppingBag, ArrowRight } from "lucide-react";
 import { Config } from "../helpers/Config.tsx";
+import { getJson } from "../helpers/Api";
 
 interface CartItem {
   id: number;
@@ -39,8 +40,8 @@ const Cart = () => {
 
   useEffect(() => {
     if (!storedUserId) return;
-    fetch(`${Config.api.baseUrl}/api/v1/carts/${storedUserId}`)
-      .then((res) => res.json())
+    // view=lines: kalemler ürün adı/fiyatıyla tek join projeksiyonundan okunur
+    getJson<CartResponse>(`/api/v1/carts/${storedUserId}?view=lines`)
       .then((data) => setCart(data))
       .catch((err) => console.error("Sepet getirme hatası:", err));
   }, [storedUserId]);
@@ -0,0 +1,111 @@
+import { useState } from "react";
+import { Config } from "../helpers/Config";
+import toast from "react-hot-toast";
+
+type Resource = "orders" | "payments";
+
+// Tarayıcı destekliyorsa dosya kaydetme penceresi (File System Access API)
+type SavePicker = (options: { suggestedName: string }) => Promise<{
+    createWritable: () => Promise<WritableStream<Uint8Array>>;
+}>;
+
+// Sipariş/ödeme dökümü yalnızca yönetici panelinden alınır. İstek Bearer token ile
+// atılır; destekleyen tarayıcılarda yanıt akışı doğrudan seçilen dosyaya yazılır,
+// kayıtlar sayfa belleğinde birikmez. Desteklemeyenlerde dosya Blob olarak indirilir.
+const ExportPanel = () => {
+    const [filter, setFilter] = useState({ from: "", to: "", status: "", format: "csv" });
+    const [exporting, setExporting] = useState<Resource | null>(null);
+
+    const exportResource = async (resource: Resource) => {
+        const params = new URLSearchParams({ format: filter.format });
+        if (filter.from) params.set("from", filter.from);
+        if (filter.to) params.set("to", filter.to);
+        if (filter.status) params.set("status", filter.status);
+        const fileName = `${resource}-export.${filter.format}`;
+
+        // Kaydetme penceresi kullanıcı tıklamasıyla açılmalı; istekten önce istenir
+        const picker = (window as unknown as { showSaveFilePicker?: SavePicker }).showSaveFilePicker;
+        let target: WritableStream<Uint8Array> | null = null;
+        if (picker) {
+            try {
+                target = await (await picker({ suggestedName: fileName })).createWritable();
+            } catch {
+                return; // kullanıcı pencereyi kapattı
+            }
+        }
+
+        setExporting(resource);
+        try {
+            const res = await fetch(`${Config.api.baseUrl}/api/v1/${resource}/export?${params}`, {
+                headers: { Authorization: `Bearer ${localStorage.getItem("token")}` },
+            });
+            if (!res.ok || !res.body) throw new Error(`Dışa aktarma başarısız: ${res.status}`);
+
+            if (target) {
+                await res.body.pipeTo(target);
+            } else {
+                const url = URL.createObjectURL(await res.blob());
+                const link = document.createElement("a");
+                link.href = url;
+                link.download = fileName;
+                // Firefox/Safari indirmeyi başlatmak için bağlantının sayfada olmasını bekler;
+                // adres de indirme başladıktan sonra serbest bırakılır
+                document.body.appendChild(link);
+                link.click();
+                link.remove();
+                setTimeout(() => URL.revokeObjectURL(url), 1000);
+            }
+        } catch (err) {
+            console.error(err);
+            await target?.abort().catch(() => {});
+            toast.error("Dışa aktarma başarısız oldu");
+        } finally {
+            setExporting(null);
+        }
+    };
+
+    return (
+        <div className="bg-white border border-gray-200 rounded-xl p-4 space-y-3 text-sm shadow-sm">
+            <h3 className="font-semibold text-gray-800">Raporlama Dışa Aktarma</h3>
+            <div className="grid grid-cols-2 gap-3">
+                <label className="flex flex-col text-gray-500">
+                    Başlangıç
+                    <input type="date" value={filter.from} onChange={(e) => setFilter({ ...filter, from: e.target.value })} className="border rounded-lg px-2 py-1 text-gray-800" />
+                </label>
+                <label className="flex flex-col text-gray-500">
+                    Bitiş
+                    <input type="date" value={filter.to} onChange={(e) => setFilter({ ...filter, to: e.target.value })} className="border rounded-lg px-2 py-1 text-gray-800" />
+                </label>
+                <label className="flex flex-col text-gray-500">
+                    Durum
+                    <input type="text" placeholder="Tümü" value={filter.status} onChange={(e) => setFilter({ ...filter, status: e.target.value })} className="border rounded-lg px-2 py-1 text-gray-800" />
+                </label>
+                <label className="flex flex-col text-gray-500">
+                    Biçim
+                    <select value={filter.format} onChange={(e) => setFilter({ ...filter, format: e.target.value })} className="border rounded-lg px-2 py-1 text-gray-800">
+                        <option value="csv">CSV</option>
+                        <option value="jsonl">JSON Lines</option>
+                    </select>
+                </label>
+            </div>
+            <div className="flex gap-3">
+                <button
+                    onClick={() => exportResource("orders")}
+                    disabled={exporting !== null}
+                    className="flex-1 px-4 py-2 bg-indigo-600 text-white rounded-lg font-semibold hover:bg-indigo-700 disabled:opacity-50"
+                >
+                    {exporting === "orders" ? "Aktarılıyor..." : "Siparişleri Dışa Aktar"}
+                </button>
+                <button
+                    onClick={() => exportResource("payments")}
+                    disabled={exporting !== null}
+                    className="flex-1 px-4 py-2 border border-indigo-600 text-indigo-600 rounded-lg font-semibold hover:bg-indigo-50 disabled:opacity-50"
+                >
+                    {exporting === "payments" ? "Aktarılıyor..." : "Ödemeleri Dışa Aktar"}
+                </button>
+            </div>
+        </div>
+    );
+};
+
+export default ExportPanel;
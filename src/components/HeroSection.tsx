@@ -38,6 +38,8 @@ const HeroSection: FC = () => {
                   <img
                       src={img.url}
                       alt={img.title}
+                      loading={idx === 0 ? "eager" : "lazy"}
+                      decoding="async"
                       className={`absolute inset-0 w-full h-full object-cover transition-transform duration-1000 ${
                           active === idx ? "scale-110" : "scale-100"
                       }`}
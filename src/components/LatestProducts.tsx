@@ -6,7 +6,7 @@ const LatestProducts = () => {
     (state) => state.productReducer.newProducts
   );
 
-  return <ProductList title="" products={newProducts} />;
+  return <ProductList title="Yeni Ürünler" products={newProducts} />;
 };
 
 export default LatestProducts;
@@ -6,12 +6,16 @@ import { FaUnlock, FaCheckCircle, FaExclamationCircle } from "react-icons/fa";
 import { RiLockPasswordFill, RiUser3Fill } from "react-icons/ri";
 import { RxCross1 } from "react-icons/rx";
 import { Config } from "../helpers/Config";
+import { decodeToken } from "../helpers/Jwt";
+import { busyMessage, markThrottled, retryAfterSeconds, throttleRemaining } from "../helpers/RateLimit";
+import useCooldown from "../hooks/useCooldown";
 import { Link, useNavigate } from "react-router-dom";
 
 const LoginModal: FC = () => {
   const [email, setEmail] = useState("");
   const [password, setPassword] = useState("");
   const [loading, setLoading] = useState(false);
+  const { remaining, startCooldown } = useCooldown();
 
   // Mesaj ve Durum yönetimi için yeni state'ler
   const [status, setStatus] = useState<{ type: "success" | "error" | null; msg: string }>({
@@ -26,7 +30,15 @@ const LoginModal: FC = () => {
 
   const submitForm = async (e: FormEvent<HTMLFormElement>) => {
     e.preventDefault();
-    if (loading) return;
+    if (loading || remaining > 0) return;
+
+    // Bu e-posta için sunucunun istediği bekleme süresi henüz dolmadıysa istek atılmaz
+    const pending = throttleRemaining(`login:${email}`);
+    if (pending > 0) {
+      startCooldown(pending);
+      setStatus({ type: "error", msg: busyMessage(pending) });
+      return;
+    }
 
     try {
       setLoading(true);
@@ -40,6 +52,14 @@ const LoginModal: FC = () => {
         body: JSON.stringify({ email, password }),
       });
 
+      const wait = retryAfterSeconds(res);
+      if (wait) {
+        markThrottled(`login:${email}`, wait);
+        startCooldown(wait);
+        setStatus({ type: "error", msg: busyMessage(wait) });
+        return;
+      }
+
       if (!res.ok) {
         // Hata Durumu
         setStatus({
@@ -50,6 +70,7 @@ const LoginModal: FC = () => {
       }
 
       const data = await res.json();
+      const role = decodeToken(data.token)?.role ?? data.role;
 
       // Başarı Durumu
       setStatus({
@@ -60,12 +81,12 @@ const LoginModal: FC = () => {
       // Token ve localStorage işlemleri
       setToken(data.token);
       if (data.id) localStorage.setItem("userId", data.id);
-      if (data.role) localStorage.setItem("role", data.role);
+      if (role) localStorage.setItem("role", role);
       if (data.token) localStorage.setItem("token", data.token);
 
       // 2 saniye bekle ki kullanıcı başarı mesajını okuyabilsin
       setTimeout(() => {
-        dispatch(doLogin({ email: data.email || email, role: data.role }));
+        dispatch(doLogin({ email: data.email || email, role }));
         dispatch(updateModal(false));
         navigate("/"); // Anasayfaya yönlendir
       }, 2000);
@@ -135,10 +156,10 @@ const LoginModal: FC = () => {
 
             <button
                 type="submit"
-                disabled={loading || status.type === "success"}
+                disabled={loading || remaining > 0 || status.type === "success"}
                 className="bg-blue-600 text-white font-bold py-3 rounded-xl hover:bg-blue-700 disabled:opacity-50 transition-all shadow-lg shadow-blue-200 dark:shadow-none"
             >
-              {loading ? "Kontrol ediliyor..." : "Giriş Yap"}
+              {loading ? "Kontrol ediliyor..." : remaining > 0 ? `Giriş Yap (${remaining})` : "Giriş Yap"}
             </button>
 
             <div className="flex flex-col gap-2 mt-2">
@@ -6,9 +6,15 @@ import { Link } from "react-router-dom";
 import { updateDarkMode } from "../redux/features/homeSlice";
 import { MdOutlineDarkMode, MdOutlineLightMode, MdFavoriteBorder, MdOutlineAccountCircle, MdOutlineLogout } from "react-icons/md";
 import SearchBar from "./SearchBar";
-import { Config } from "../helpers/Config";
+import { getJson } from "../helpers/Api";
 import { AuthContext } from "../redux/AuthContext";
 
+interface CartSummary {
+    itemCount: number;
+    subtotal: number;
+    discountedTotal: number;
+}
+
 const Navbar: FC = () => {
     const dispatch = useAppDispatch();
     const [isMenuOpen, setIsMenuOpen] = useState(false);
@@ -36,11 +42,9 @@ const Navbar: FC = () => {
                 return;
             }
             try {
-                const res = await fetch(`${Config.api.baseUrl}/api/v1/carts/${storedUserId}`);
-                if (res.ok) {
-                    const data = await res.json();
-                    setDynamicCartCount(data.items?.length || 0);
-                }
+                // Rozet için tüm sepet değil, tek sorguluk özet yeterli
+                const summary = await getJson<CartSummary>(`/api/v1/carts/${storedUserId}/summary`);
+                setDynamicCartCount(summary.itemCount || 0);
             } catch (err) {
                 console.error("Navbar sepet sayısı çekme hatası:", err);
             }
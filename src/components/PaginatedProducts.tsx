@@ -7,7 +7,9 @@ interface Props {
     products: Product[];
     isLoading: boolean;
     initialRows?: number; 
-    
+    // Sunucu tarafı (cursor) sayfalamada: "Daha Fazla Göster" bir sonraki sayfayı ister
+    hasMore?: boolean;
+    onLoadMore?: () => void;
 }
 
 const getColumnsForWidth = (width: number) => {
@@ -20,7 +22,7 @@ const getColumnsForWidth = (width: number) => {
     
 };
 
-const PaginatedProducts: FC<Props> = ({ products, isLoading, initialRows = 5 }) => {
+const PaginatedProducts: FC<Props> = ({ products, isLoading, initialRows = 5, hasMore = false, onLoadMore }) => {
     const [rowsToShow, setRowsToShow] = useState<number>(initialRows);
     const [columns, setColumns] = useState<number>(() =>
         typeof window !== "undefined" ? getColumnsForWidth(window.innerWidth) : 4
@@ -45,8 +47,8 @@ const PaginatedProducts: FC<Props> = ({ products, isLoading, initialRows = 5 })
 
     const itemsPerPage = useMemo(() => rowsToShow * columns, [rowsToShow, columns]);
 
-    const visibleProducts = products.slice(0, itemsPerPage);
-    const allShown = visibleProducts.length >= products.length;
+    const visibleProducts = onLoadMore ? products : products.slice(0, itemsPerPage);
+    const allShown = onLoadMore ? !hasMore : visibleProducts.length >= products.length;
 
     
     return (
@@ -66,7 +68,7 @@ const PaginatedProducts: FC<Props> = ({ products, isLoading, initialRows = 5 })
                     {!allShown && (
                         <div className="flex justify-center mt-6">
                             <button
-                                onClick={() => setRowsToShow((r) => r + initialRows)}
+                                onClick={() => (onLoadMore ? onLoadMore() : setRowsToShow((r) => r + initialRows))}
                                 className="px-4 py-2 rounded-md border dark:border-neutral-700 dark:text-white hover:shadow bg-blue-300"
                             >
                            Daha Fazla Göster
@@ -8,6 +8,8 @@ import { Link } from "react-router-dom";
 import PriceSection from "./PriceSection";
 import { Config } from "../helpers/Config";
 import { addToCart } from "../redux/features/cartSlice";
+import { categoryName } from "../helpers/CategorySnapshot";
+import useCategorySnapshot from "../hooks/useCategorySnapshot";
 
 type ProductCardProps = Product & {
   showDelete?: boolean;
@@ -34,6 +36,7 @@ const ProductCard: FC<ProductCardProps> = ({
   onDelete,
 }) => {
   const dispatch = useAppDispatch();
+  const categories = useCategorySnapshot();
 
   const handleAddToCart = async () => {
     let storedUserId = localStorage.getItem("userId");
@@ -83,16 +86,20 @@ const ProductCard: FC<ProductCardProps> = ({
     <div className="border border-gray-200 font-lato rounded-lg overflow-hidden relative">
       <div className="text-center border-b">
         <Link to={`/product/${id}`}>
+          {/* Liste görünümünde yalnızca küçük resim; ekrana yaklaşınca yüklenir */}
           <img
             src={thumbnail || images?.[0]}
             alt={title}
+            loading="lazy"
+            decoding="async"
+            height={240}
             className="h-60 mx-auto transition-transform duration-200 hover:scale-105"
           />
         </Link>
       </div>
 
       <div className="p-4 space-y-2">
-        <p className="text-gray-500 text-sm">{category}</p>
+        <p className="text-gray-500 text-sm">{categoryName(category, categories)}</p>
 
         <Link
           to={`/product/${id}`}
@@ -31,7 +31,7 @@ const ProductList: FC<Props> = ({
           category={product.category}
           title={product.title}
           price={product.price}
-          thumbnail={product.images?.[0] || ""}
+          thumbnail={product.thumbnail || product.images?.[0] || ""}
           rating={product.rating}
           discountPercentage={product.discountPercentage}
           showDelete={isWishlist}
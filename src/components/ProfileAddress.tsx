@@ -1,14 +1,15 @@
 import { useEffect, useState } from "react";
 import { Config } from "../helpers/Config";
+import { getAddresses, invalidateAddresses } from "../helpers/AddressCache";
+import { Address } from "../models/Address";
 
-interface Address {
-  id: number;
-  street: string;
-  city: string;
-  state: string;
-  zipCode: string;
-  country: string;
-}
+// Sunucuya yalnızca kullanıcının düzenlediği alanlar gönderilir
+const editableFields = (addr: Address) => {
+  const fields: Partial<Address> = { ...addr };
+  delete fields.formattedAddress;
+  delete fields.userId;
+  return fields;
+};
 
 export default function ProfileAddress() {
   const [addresses, setAddresses] = useState<Address[]>([]);
@@ -41,16 +42,9 @@ export default function ProfileAddress() {
         return;
       }
    try {
-  const res = await fetch(`${Config.api.baseUrl}/api/v1/users/${storedUserId}/addresses`);
-  if (!res.ok) throw new Error("Adresler alınırken bir hata oluştu.");
-  const data = await res.json();
-  setAddresses(Array.isArray(data) ? data : [data]);
-} catch (err: unknown) {
-  if (err instanceof Error) {
-    setErrorMessage(err.message);
-  } else {
-    setErrorMessage("Adresler alınırken bir hata oluştu.");
-  }
+  setAddresses(await getAddresses(storedUserId));
+} catch {
+  setErrorMessage("Adresler alınırken bir hata oluştu.");
 } finally {
   setLoading(false);
 }
@@ -79,11 +73,18 @@ export default function ProfileAddress() {
         {
           method: "PUT",
           headers: { "Content-Type": "application/json" },
-          body: JSON.stringify(formData),
+          // formattedAddress ve userId istemcide düzenlenmez; sunucu adresi yazarken yeniden hesaplar
+          body: JSON.stringify(editableFields(formData)),
         }
       );
       if (!res.ok) throw new Error("Adres güncellenemedi.");
-      setAddresses(prev => prev.map(a => (a.id === formData.id ? formData : a)));
+      invalidateAddresses(storedUserId);
+      // Sunucu gövde döndürmezse (204 ya da boş 200) düzenlenen alanlar kullanılır;
+      // eski formattedAddress atılır ki görüntülenirken yeniden hesaplansın
+      const updated: Address = await res
+        .json()
+        .catch(() => ({ ...formData, formattedAddress: undefined }));
+      setAddresses(prev => prev.map(a => (a.id === updated.id ? updated : a)));
       setEditingId(null);
       setSuccessMessage("Adres başarıyla güncellendi.");
     } catch (err: unknown) {
@@ -107,6 +108,7 @@ export default function ProfileAddress() {
         { method: "DELETE" }
       );
       if (!res.ok) throw new Error("Adres silinemedi.");
+      invalidateAddresses(storedUserId);
       setAddresses(prev => prev.filter(a => a.id !== deleteId));
       setSuccessMessage("Adres başarıyla silindi.");
     } catch (err: unknown) {
@@ -129,6 +131,7 @@ export default function ProfileAddress() {
       });
       if (!newAddress.street || !newAddress.city) return;
       if (!res.ok) throw new Error("Yeni adres eklenemedi.");
+      invalidateAddresses(storedUserId);
       const created = await res.json();
       localStorage.setItem("lastCreatedAddressId", created.id.toString());  // Uzak Sunucuya yüklemen gereken yer
       setAddresses(prev => [...prev, created]);
@@ -1,10 +1,18 @@
 import { FC } from "react";
 import { Outlet, Navigate } from "react-router-dom";
 import { useAppSelector } from "../redux/hooks";
+import { isTokenValid } from "../helpers/Jwt";
 
-const ProtectedRoute: FC = () => {
-  const isLoggedin = useAppSelector((state) => state.authReducer.isLoggedIn);
-  return isLoggedin ? <Outlet /> : <Navigate to="/" />;
+type Props = {
+  role?: string;
+};
+
+// Yetki kontrolü tamamen yerel: token süresi ve rol claim'i, sunucuya sorulmadan
+const ProtectedRoute: FC<Props> = ({ role }) => {
+  const { isLoggedIn, role: userRole } = useAppSelector((state) => state.authReducer);
+  const allowed =
+    isLoggedIn && isTokenValid(localStorage.getItem("token")) && (!role || userRole === role);
+  return allowed ? <Outlet /> : <Navigate to="/" />;
 };
 
 export default ProtectedRoute;
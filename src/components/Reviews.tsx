@@ -1,99 +1,201 @@
 import { FC, useEffect, useState } from "react";
 import RatingStar from "./RatingStar";
 import { ReviewItem } from "../models/ReviewItem";
+import { Config } from "../helpers/Config";
+import { invalidateProduct } from "../helpers/ProductCache";
+import useAuth from "../hooks/useAuth";
+import toast from "react-hot-toast";
 
-const reviews: ReviewItem[] = [
-  {
-    username: "atuny0",
-    rating: 5,
-    review:
-      "The product is nice. I got the delivery on time. I am using it for the last four months. My exprience with this product is very good.",
-  },
-  {
-    username: "hbingley1",
-    rating: 4,
-    review:
-      "I am satisfied with the value for money of the product. Everything seems nice but the delivery time seems a bit delayed",
-  },
-  {
-    username: "rshawe2",
-    rating: 3,
-    review:
-      "I found the product not long lasting. The quality also seemed a bit downgraded. I don't think its value for money.",
-  },
-  {
-    username: "yraigatt3",
-    rating: 4,
-    review:
-      "The product is nice. I got the delivery on time. I am using it for the last four months. My exprience with this product is very good.",
-  },
-  {
-    username: "kmeus4",
-    rating: 3,
-    review:
-      "The quality could have been better. I feel like wasting my money. I should have been more careful while buying it.",
-  },
-  {
-    username: "dpettegre6",
-    rating: 5,
-    review:
-      "The product is nice. I got the delivery on time. I am using it for the last four months. My exprience with this product is very good.",
-  },
-  {
-    username: "ggude7",
-    rating: 4,
-    review:
-      "I am satisfied with the value for money of the product. Everything seems nice but the delivery time seems a bit delayed",
-  },
-  {
-    username: "nloiterton8",
-    rating: 3,
-    review:
-      "I found the product not long lasting. The quality also seemed a bit downgraded. I don't think its value for money.",
-  },
-  {
-    username: "umcgourty9",
-    rating: 4,
-    review:
-      "The product is nice. I got the delivery on time. I am using it for the last four months. My exprience with this product is very good.",
-  },
-  {
-    username: "rhallawellb",
-    rating: 3,
-    review:
-      "The quality could have been better. I feel like wasting my money. I should have been more careful while buying it.",
-  },
-];
-
-const getShuffledArr = () => {
-  const arr: ReviewItem[] = [];
-  const start = Math.floor(Math.random() * 4);
-  for (let index = start; index < start + 5; index++) {
-    arr.push(reviews[index]);
-  }
-  return arr;
+const PAGE_SIZE = 5;
+const EMPTY_HISTOGRAM: number[] = [];
+
+interface ReviewPage {
+  content: ReviewItem[];
+  last: boolean;
+}
+
+interface RatingSummary {
+  rating: number;
+  reviewCount: number;
+  ratingHistogram: number[];
+}
+
+// Yorum kaydı yanıtı: rating yorumun kendi yıldızıdır; sunucu güncel özeti
+// döndürürse ürün ortalaması ayrı alanda (averageRating) gelir
+interface SavedReview extends ReviewItem {
+  averageRating?: number;
+  reviewCount?: number;
+  ratingHistogram?: number[];
+}
+
+// Yeni yorum özet değerlere artımlı eklenir; tüm yorumları yeniden okumaya gerek yok
+const applyReview = (summary: RatingSummary, stars: number): RatingSummary => {
+  const reviewCount = summary.reviewCount + 1;
+  const ratingHistogram = [0, 1, 2, 3, 4].map((i) => summary.ratingHistogram[i] ?? 0);
+  ratingHistogram[stars - 1] += 1;
+  return {
+    rating: (summary.rating * summary.reviewCount + stars) / reviewCount,
+    reviewCount,
+    ratingHistogram,
+  };
+};
+
+type Props = {
+  id: number;
+  rating?: number;
+  reviewCount?: number;
+  ratingHistogram?: number[];
 };
 
-const Reviews: FC<{ id: number }> = ({ id }) => {
+// Ürün yanıtı yorumların kendisini değil yalnızca özetini (sayı, ortalama,
+// yıldız dağılımı) taşır; yorumlar ayrı uç noktadan sayfa sayfa yüklenir.
+const Reviews: FC<Props> = ({ id, rating = 0, reviewCount = 0, ratingHistogram = EMPTY_HISTOGRAM }) => {
   const [items, setItems] = useState<ReviewItem[]>([]);
+  // Sayfa, ait olduğu ürünle birlikte tutulur; id değiştiği render'da eski sayfa numarası kullanılmaz
+  const [pageKey, setPageKey] = useState({ productId: id, page: 0 });
+  const [isLast, setIsLast] = useState(true);
+  const [summary, setSummary] = useState<RatingSummary>({ rating, reviewCount, ratingHistogram });
+  const [stars, setStars] = useState(5);
+  const [comment, setComment] = useState("");
+  const { requireAuth } = useAuth();
 
   useEffect(() => {
-    const _arr = getShuffledArr();
-    setItems(_arr);
+    setItems([]);
+    setIsLast(true);
+    // İlk render'da anahtar zaten bu ürüne ait; aynı nesne korunur ki sayfa 0 iki kez istenmesin
+    setPageKey((k) => (k.productId === id ? k : { productId: id, page: 0 }));
   }, [id]);
 
+  useEffect(() => {
+    setSummary({ rating, reviewCount, ratingHistogram });
+  }, [rating, reviewCount, ratingHistogram]);
+
+  const submitReview = () => {
+    requireAuth(async () => {
+      if (!comment.trim()) return;
+
+      try {
+        const res = await fetch(`${Config.api.baseUrl}/api/v1/products/${id}/reviews`, {
+          method: "POST",
+          headers: {
+            "Content-Type": "application/json",
+            Authorization: `Bearer ${localStorage.getItem("token")}`,
+          },
+          body: JSON.stringify({ rating: stars, comment }),
+        });
+        if (!res.ok) throw new Error();
+
+        // Sunucu güncel özeti döndürüyorsa (eşzamanlı yorumlar dahil) o esas alınır
+        const saved: SavedReview = await res.json();
+        const { averageRating, reviewCount: count, ratingHistogram: histogram } = saved;
+        setSummary((prev) =>
+          averageRating !== undefined && count !== undefined && histogram
+            ? { rating: averageRating, reviewCount: count, ratingHistogram: histogram }
+            : applyReview(prev, stars)
+        );
+        setItems((prev) => [
+          { reviewerName: saved.reviewerName ?? localStorage.getItem("username") ?? "", rating: stars, comment, date: saved.date },
+          ...prev,
+        ]);
+        setComment("");
+        invalidateProduct(id);
+        toast.success("Yorumunuz eklendi");
+      } catch {
+        toast.error("Yorum gönderilemedi");
+      }
+    });
+  };
+
+  useEffect(() => {
+    const { productId, page } = pageKey;
+    if (productId !== id || reviewCount === 0) return;
+
+    // Ürün ya da sayfa değiştiyse geç gelen yanıt listeye eklenmez
+    let superseded = false;
+    fetch(`${Config.api.baseUrl}/api/v1/products/${productId}/reviews?page=${page}&size=${PAGE_SIZE}`)
+      .then((res) => res.json())
+      .then((data: ReviewPage) => {
+        if (superseded) return;
+        setItems((prev) => (page === 0 ? data.content : [...prev, ...data.content]));
+        setIsLast(data.last);
+      })
+      .catch((err) => console.error("Yorumlar yüklenemedi:", err));
+
+    return () => {
+      superseded = true;
+    };
+  }, [id, pageKey, reviewCount]);
+
   return (
     <div className="px-2">
-      <h1 className="text-2xl font-semibold mb-2">Reviews</h1>
+      <h1 className="text-2xl font-semibold mb-2">Değerlendirmeler</h1>
+
+      <div className="flex items-center gap-3 mb-4">
+        <span className="text-3xl font-bold">{summary.rating.toFixed(1)}</span>
+        <div>
+          <RatingStar rating={summary.rating} />
+          <p className="text-sm text-gray-500">{summary.reviewCount} değerlendirme</p>
+        </div>
+      </div>
+
+      <div className="space-y-1 mb-6 max-w-sm">
+        {[5, 4, 3, 2, 1].map((star) => {
+          const count = summary.ratingHistogram[star - 1] ?? 0;
+          const width = summary.reviewCount ? (count / summary.reviewCount) * 100 : 0;
+          return (
+            <div key={star} className="flex items-center gap-2 text-sm">
+              <span className="w-4">{star}</span>
+              <div className="flex-1 h-2 bg-gray-200 rounded">
+                <div className="h-2 bg-yellow-400 rounded" style={{ width: `${width}%` }} />
+              </div>
+              <span className="w-8 text-right text-gray-500">{count}</span>
+            </div>
+          );
+        })}
+      </div>
+
+      <div className="flex flex-col gap-2 mb-6 max-w-lg">
+        <select
+          value={stars}
+          onChange={(e) => setStars(Number(e.target.value))}
+          className="border rounded p-1 w-32 dark:bg-slate-700"
+        >
+          {[5, 4, 3, 2, 1].map((s) => (
+            <option key={s} value={s}>{s} yıldız</option>
+          ))}
+        </select>
+        <textarea
+          value={comment}
+          onChange={(e) => setComment(e.target.value)}
+          placeholder="Ürün hakkındaki düşünceleriniz..."
+          className="border rounded p-2 text-sm dark:bg-slate-700"
+        />
+        <button
+          onClick={submitReview}
+          className="self-start bg-pink-600 hover:bg-pink-700 text-white text-sm font-semibold px-4 py-2 rounded"
+        >
+          Yorum Yap
+        </button>
+      </div>
+
       <div className="space-y-2">
-        {items?.map(({ username, rating, review }) => (
-          <div key={username} className="leading-4" data-test="review-item">
-            <h3 className="font-semibold text-md">{username}</h3>
+        {items.map(({ reviewerName, rating, comment, date }, index) => (
+          <div key={`${reviewerName}-${date ?? index}`} className="leading-4" data-test="review-item">
+            <h3 className="font-semibold text-md">{reviewerName}</h3>
             <RatingStar rating={rating} />
-            <p className="text-sm leading-4">{review}</p>
+            <p className="text-sm leading-4">{comment}</p>
           </div>
         ))}
       </div>
+
+      {!isLast && (
+        <button
+          onClick={() => setPageKey((k) => ({ ...k, page: k.page + 1 }))}
+          className="mt-4 text-sm font-semibold text-pink-600 hover:underline"
+        >
+          Daha fazla yorum göster
+        </button>
+      )}
     </div>
   );
 };
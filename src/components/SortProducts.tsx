@@ -1,45 +1,53 @@
 import { FC, useRef } from "react";
 import { Product } from "../models/Product";
+import { ProductSort } from "../models/ProductPage";
 
 interface Props {
     products: Product[];
-    onChange: (sorted: Product[]) => void;
+    onChange?: (sorted: Product[]) => void;
+    // Verilirse sıralama sunucuya bırakılır (keyset sayfalama), liste yerelde sıralanmaz
+    onSortChange?: (sort: ProductSort) => void;
 }
 
-const SortProducts: FC<Props> = ({ products, onChange }) => {
+const finalPrice = (p: Product) => p.price - (p.price * (p.discountPercentage ?? 0)) / 100;
+
+const SortProducts: FC<Props> = ({ products, onChange, onSortChange }) => {
     const sortRef = useRef<HTMLSelectElement>(null);
 
-    const sortProducts = (sortValue: string) => {
+    const sortProducts = (sortValue: ProductSort) => {
+        if (onSortChange) {
+            onSortChange(sortValue);
+            return;
+        }
+
         let sorted: Product[] = [...products];
 
         if (sortValue === "asc") {
-            sorted = sorted.sort((a, b) => {
-                const aPrice = a.price - (a.price * (a.discountPercentage ?? 0)) / 100;
-                const bPrice = b.price - (b.price * (b.discountPercentage ?? 0)) / 100;
-                return aPrice - bPrice;
-            });
+            sorted = sorted.sort((a, b) => finalPrice(a) - finalPrice(b));
         } else if (sortValue === "desc") {
-            sorted = sorted.sort((a, b) => {
-                const aPrice = a.price - (a.price * (a.discountPercentage ?? 0)) / 100;
-                const bPrice = b.price - (b.price * (b.discountPercentage ?? 0)) / 100;
-                return bPrice - aPrice;
-            });
+            sorted = sorted.sort((a, b) => finalPrice(b) - finalPrice(a));
+        } else if (sortValue === "rating") {
+            sorted = sorted.sort((a, b) => (b.rating ?? 0) - (a.rating ?? 0));
+        } else if (sortValue === "discount") {
+            sorted = sorted.sort((a, b) => (b.discountPercentage ?? 0) - (a.discountPercentage ?? 0));
         } else {
             sorted = sorted.sort((a, b) => a.id - b.id);
         }
 
-        onChange(sorted);
+        onChange?.(sorted);
     };
 
     return (
         <select
             ref={sortRef}
             className="border border-black dark:border-white rounded p-1 dark:text-white dark:bg-slate-600"
-            onChange={(e) => sortProducts(e.target.value)}
+            onChange={(e) => sortProducts(e.target.value as ProductSort)}
         >
             <option value="default">Default</option>
             <option value="asc">Price (low to high)</option>
             <option value="desc">Price (high to low)</option>
+            <option value="rating">Rating</option>
+            <option value="discount">Discount</option>
         </select>
     );
 };
@@ -0,0 +1,62 @@
+import { Config } from "./Config";
+import { Address } from "../models/Address";
+
+// Kullanıcı başına adres defteri önbelleği. Profil, ödeme ve iyzico sayfaları
+// aynı listeyi buradan okur; adres ekleme, güncelleme ve silmeden sonra
+// ProfileAddress ilgili kullanıcının kaydını siler.
+// formattedAddress sunucuda adres yazılırken bir kez hesaplanır; yoksa burada kurulur.
+
+const cache = new Map<string, Address[]>();
+
+export const formatAddress = (addr: Address) =>
+  addr.formattedAddress ||
+  [addr.street, addr.city, [addr.state, addr.zipCode].filter(Boolean).join(" / "), addr.country]
+    .filter(Boolean)
+    .join(", ");
+
+const withFormatted = (addr: Address): Address => ({
+  ...addr,
+  formattedAddress: addr.formattedAddress || formatAddress(addr),
+});
+
+// Her yazım kullanıcının kuşağını (generation) artırır. Yazımdan önce başlamış bir
+// istek döndüğünde kuşak değişmişse sonucu önbelleğe yazılmaz ve yeni istekler
+// ona bağlanmaz; böylece eski liste önbelleğe geri dönmez.
+const generations = new Map<string, number>();
+const pending = new Map<string, { generation: number; request: Promise<Address[]> }>();
+
+const generationOf = (userId: string) => generations.get(userId) ?? 0;
+
+export const getAddresses = (userId: string): Promise<Address[]> => {
+  const cached = cache.get(userId);
+  if (cached) return Promise.resolve(cached);
+
+  const generation = generationOf(userId);
+  const inFlight = pending.get(userId);
+  if (inFlight && inFlight.generation === generation) return inFlight.request;
+
+  const token = localStorage.getItem("token");
+  const request = fetch(`${Config.api.baseUrl}/api/v1/users/${userId}/addresses`, {
+    headers: token ? { Authorization: `Bearer ${token}` } : {},
+  })
+    .then((res) => {
+      if (!res.ok) throw new Error(`Adresler alınamadı: ${res.status}`);
+      return res.json() as Promise<Address[] | Address>;
+    })
+    .then((data) => {
+      const list = (Array.isArray(data) ? data : data ? [data] : []).map(withFormatted);
+      if (generationOf(userId) === generation) cache.set(userId, list);
+      return list;
+    })
+    .finally(() => {
+      if (pending.get(userId)?.request === request) pending.delete(userId);
+    });
+
+  pending.set(userId, { generation, request });
+  return request;
+};
+
+export const invalidateAddresses = (userId: string) => {
+  cache.delete(userId);
+  generations.set(userId, generationOf(userId) + 1);
+};
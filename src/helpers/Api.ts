@@ -0,0 +1,23 @@
+import { Config } from "./Config";
+
+// Aynı anda tetiklenen özdeş GET istekleri (ör. StrictMode'da effect'lerin iki kez
+// çalışması ya da sepet rozetinin art arda yenilenmesi) tek bir ağ çağrısında
+// birleştirilir; sonuç tüm bekleyenlerle paylaşılır. Yalnızca başlıksız, düz GET
+// istekleri için kullanılır; anahtar bu yüzden URL'dir.
+const inFlight = new Map<string, Promise<unknown>>();
+
+export const getJson = <T>(path: string): Promise<T> => {
+  const url = `${Config.api.baseUrl}${path}`;
+  const pending = inFlight.get(url);
+  if (pending) return pending as Promise<T>;
+
+  const request = fetch(url)
+    .then((res) => {
+      if (!res.ok) throw new Error(`İstek başarısız: ${res.status}`);
+      return res.json() as Promise<T>;
+    })
+    .finally(() => inFlight.delete(url));
+
+  inFlight.set(url, request);
+  return request;
+};
@@ -0,0 +1,70 @@
+import { Config } from "./Config";
+import { Category } from "../models/Category";
+
+// Kategoriler neredeyse hiç değişmez: bir kez çekilip değişmez (frozen) bir
+// anlık görüntüde tutulur. Ürün kartları kategori adını buradan okur, her
+// sayfada /categories yeniden istenmez. Kategori yazımlarından sonra
+// refreshCategories() yeni görüntüyü kurar ve tek atamada yerine koyar.
+
+export interface CategorySnapshot {
+  readonly list: readonly Category[];
+  readonly bySlug: ReadonlyMap<string, Category>;
+}
+
+const buildSnapshot = (categories: Category[]): CategorySnapshot => {
+  const list = Object.freeze(categories.map((c) => Object.freeze({ ...c })));
+  return Object.freeze({
+    list,
+    bySlug: new Map(list.map((c) => [c.slug, c])),
+  });
+};
+
+let snapshot: CategorySnapshot = buildSnapshot(
+  JSON.parse(localStorage.getItem("categories") || "[]")
+);
+let loaded = false;
+let pending: Promise<CategorySnapshot> | null = null;
+const listeners = new Set<() => void>();
+
+const fetchSnapshot = (): Promise<CategorySnapshot> =>
+  fetch(`${Config.api.baseUrl}/api/v1/categories`)
+    .then((res) => {
+      if (!res.ok) throw new Error(`Kategoriler alınamadı: ${res.status}`);
+      return res.json();
+    })
+    .then((data: Category[]) => {
+      snapshot = buildSnapshot(data);
+      loaded = true;
+      localStorage.setItem("categories", JSON.stringify(data));
+      listeners.forEach((l) => l());
+      return snapshot;
+    });
+
+// Her çağrı yeni bir istek başlatır; süren bir istek varsa onun arkasına eklenir.
+// Böylece bir yazımdan sonra çağrılan yenileme, yazımdan önce başlamış isteğin
+// sonucuyla yetinmez.
+export const refreshCategories = (): Promise<CategorySnapshot> => {
+  const previous = pending ? pending.catch(() => snapshot) : Promise.resolve(snapshot);
+  const request = previous.then(fetchSnapshot);
+  pending = request;
+  const clear = () => {
+    if (pending === request) pending = null;
+  };
+  request.then(clear, clear);
+  return request;
+};
+
+export const loadCategories = (): Promise<CategorySnapshot> =>
+  loaded ? Promise.resolve(snapshot) : pending ?? refreshCategories();
+
+export const getCategorySnapshot = () => snapshot;
+
+export const subscribeCategories = (listener: () => void) => {
+  listeners.add(listener);
+  return () => {
+    listeners.delete(listener);
+  };
+};
+
+export const categoryName = (slug?: string, from: CategorySnapshot = snapshot) =>
+  (slug && from.bySlug.get(slug)?.name) || slug || "";
@@ -0,0 +1,25 @@
+// Token içeriği (claim'ler) istemcide yalnızca okunur; imza doğrulaması sunucunun
+// işidir. Rol ve süre bilgisi buradan alındığı için arayüz, kullanıcıyı ya da rolü
+// öğrenmek için ek bir istek atmaz.
+export interface TokenClaims {
+  sub?: string;
+  role?: string;
+  exp?: number; // saniye cinsinden
+}
+
+export const decodeToken = (token: string | null): TokenClaims | null => {
+  if (!token) return null;
+  const payload = token.split(".")[1];
+  if (!payload) return null;
+  try {
+    const base64 = payload.replace(/-/g, "+").replace(/_/g, "/");
+    return JSON.parse(atob(base64.padEnd(base64.length + ((4 - (base64.length % 4)) % 4), "=")));
+  } catch {
+    return null;
+  }
+};
+
+export const isTokenValid = (token: string | null) => {
+  const claims = decodeToken(token);
+  return !!claims && (claims.exp === undefined || claims.exp * 1000 > Date.now());
+};
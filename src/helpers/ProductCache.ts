@@ -0,0 +1,81 @@
+import { Config } from "./Config";
+import { Product } from "../models/Product";
+
+// Ürün detay yanıtları için sınırlı, boyut bilinçli LRU önbellek.
+// Yanıt gövdesi ham JSON metni olarak saklanır; boyut sınırı bu metnin
+// uzunluğuna göre uygulanır. Ürün, yorum ve stok yazımlarında ilgili kayıt silinir.
+// Süresi dolan kayıt cache: "no-cache" ile yeniden istenir: tarayıcı kendi sakladığı
+// ETag/Last-Modified ile koşullu istek atar, 304 gelirse gövdeyi HTTP önbelleğinden
+// verir. Elle doğrulama başlığı eklenmez; böylece çapraz kökenli istek "basit"
+// kalır ve CORS ön kontrolü (preflight) tetiklenmez.
+
+const MAX_BYTES = 2 * 1024 * 1024;
+const TTL_MS = 5 * 60 * 1000;
+
+interface Entry {
+  body: string;
+  expires: number;
+}
+
+// Map ekleme sırasını korur: ilk anahtar en uzun süredir kullanılmayandır
+const entries = new Map<number, Entry>();
+let totalBytes = 0;
+let hits = 0;
+let misses = 0;
+let revalidated = 0;
+
+const drop = (id: number) => {
+  const entry = entries.get(id);
+  if (!entry) return;
+  totalBytes -= entry.body.length * 2;
+  entries.delete(id);
+};
+
+const put = (id: number, body: string) => {
+  drop(id);
+  const size = body.length * 2;
+  if (size > MAX_BYTES) return;
+  while (totalBytes + size > MAX_BYTES && entries.size > 0) {
+    drop(entries.keys().next().value as number);
+  }
+  entries.set(id, { body, expires: Date.now() + TTL_MS });
+  totalBytes += size;
+};
+
+export const getProduct = async (id: number): Promise<Product> => {
+  const entry = entries.get(id);
+  if (entry && entry.expires > Date.now()) {
+    hits++;
+    entries.delete(id);
+    entries.set(id, entry);
+    return JSON.parse(entry.body) as Product;
+  }
+
+  misses++;
+  if (entry) revalidated++;
+  // Yazım sonrası silinen kayıtlar için de HTTP önbelleğindeki eski yanıt doğrulanmadan kullanılmaz
+  const res = await fetch(`${Config.api.baseUrl}/api/v1/products/${id}`, { cache: "no-cache" });
+  if (!res.ok) throw new Error(`Ürün alınamadı: ${res.status}`);
+  const body = await res.text();
+  put(id, body);
+  return JSON.parse(body) as Product;
+};
+
+export const invalidateProduct = (id: number) => drop(id);
+
+export const invalidateProducts = (ids: number[]) => ids.forEach(drop);
+
+// Toplu yazımlarda (ör. içe aktarma) hangi ürünlerin değiştiği bilinmez; önbellek tamamen boşaltılır
+export const clearProductCache = () => {
+  entries.clear();
+  totalBytes = 0;
+};
+
+export const getProductCacheStats = () => ({
+  hits,
+  misses,
+  revalidated,
+  hitRate: hits + misses === 0 ? 0 : hits / (hits + misses),
+  entries: entries.size,
+  bytes: totalBytes,
+});
@@ -0,0 +1,35 @@
+// Sunucu 429 döndüğünde (parola özetleme kuyruğu dolu ya da hız sınırı aşıldı)
+// Retry-After başlığından beklenecek süreyi saniye olarak okur.
+export const retryAfterSeconds = (res: Response): number | null => {
+  if (res.status !== 429) return null;
+  const header = res.headers.get("Retry-After");
+  if (!header) return 5;
+  const seconds = Number(header);
+  if (!Number.isNaN(seconds)) return Math.max(1, Math.ceil(seconds));
+  const date = Date.parse(header);
+  return Number.isNaN(date) ? 5 : Math.max(1, Math.ceil((date - Date.now()) / 1000));
+};
+
+export const busyMessage = (seconds: number) =>
+  `Sunucu şu anda yoğun. Lütfen ${seconds} saniye sonra tekrar deneyin.`;
+
+// İstemci tarafı gönderim aralığı: aynı e-posta için tekrar gönderimler
+// sunucuya gitmeden önce bekletilir. Sayfa yenilense de süre localStorage'dan okunur.
+const THROTTLE_KEY = "authThrottle";
+
+const readThrottle = (): Record<string, number> =>
+  JSON.parse(localStorage.getItem(THROTTLE_KEY) || "{}");
+
+export const throttleRemaining = (key: string) => {
+  const until = readThrottle()[key.toLowerCase()];
+  return until ? Math.max(0, Math.ceil((until - Date.now()) / 1000)) : 0;
+};
+
+export const markThrottled = (key: string, seconds: number) => {
+  const now = Date.now();
+  const active = Object.fromEntries(
+    Object.entries(readThrottle()).filter(([, until]) => until > now)
+  );
+  active[key.toLowerCase()] = now + seconds * 1000;
+  localStorage.setItem(THROTTLE_KEY, JSON.stringify(active));
+};
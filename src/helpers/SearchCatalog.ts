@@ -0,0 +1,146 @@
+import { getJson } from "./Api";
+import { searchIndex } from "./SearchIndex";
+import { Product } from "../models/Product";
+import { ProductPage } from "../models/ProductPage";
+
+// Aramanın okuduğu tam katalog ve indeks burada, bellekte tutulur. localStorage
+// "products" yalnızca sayfa yenilendiğinde hızlı açılış için bir kopyadır; kota
+// aşılırsa kopya yazılmaz, arama bellekteki katalogla çalışmaya devam eder.
+// İndeks yalnızca katalog değiştiğinde kurulur ya da güncellenir; arama sayfası
+// her sorguda yalnızca searchCatalog() ile indekste arar. Her değişiklik sürümü artırır.
+
+const STORAGE_KEY = "products";
+const LOADED_AT_KEY = "productsLoadedAt";
+const SESSION_KEY = "productsLoadedThisSession";
+const MAX_AGE_MS = 30 * 60 * 1000;
+const PAGE_SIZE = 100;
+
+let corpus: Product[] | null = null;
+let loadedAt = Number(localStorage.getItem(LOADED_AT_KEY) || 0);
+let version = 0;
+let indexed = false;
+let pending: Promise<void> | null = null;
+const listeners = new Set<() => void>();
+
+const readCorpus = (): Product[] => {
+  if (corpus) return corpus;
+  try {
+    corpus = JSON.parse(localStorage.getItem(STORAGE_KEY) || "[]");
+  } catch {
+    corpus = [];
+  }
+  return corpus ?? [];
+};
+
+// Kalıcı kopya en iyi çabayla yazılır; yazılamazsa yarım kalmış eski kopya silinir
+const persist = (products: Product[]) => {
+  try {
+    localStorage.setItem(STORAGE_KEY, JSON.stringify(products));
+    localStorage.setItem(LOADED_AT_KEY, String(loadedAt));
+  } catch (err) {
+    console.warn("Ürün kataloğu yerel depoya yazılamadı, yalnızca bellekte tutuluyor:", err);
+    localStorage.removeItem(STORAGE_KEY);
+    localStorage.removeItem(LOADED_AT_KEY);
+  }
+};
+
+const notify = () => {
+  version++;
+  listeners.forEach((l) => l());
+};
+
+// Saklanan kopya ilk kullanımda bir kez indekslenir
+const ensureIndexed = () => {
+  if (indexed) return;
+  searchIndex.rebuild(readCorpus());
+  indexed = true;
+};
+
+// Kart projeksiyonu (fields=...) ile yazılmış eski bir kopya açıklama ve marka
+// içermez; böyle bir kopyada marka yüzleri ve açıklama eşleşmeleri kaybolur.
+const isPartial = () => {
+  const stored = readCorpus();
+  return stored.length > 0 && stored.every((p) => p.description === undefined && p.brand === undefined);
+};
+
+// Katalog bu oturumda yüklendiyse, yeterince yeniyse ve tam alanlıysa tekrar çekilmez
+const isFresh = () =>
+  sessionStorage.getItem(SESSION_KEY) !== null && !isPartial() && Date.now() - loadedAt < MAX_AGE_MS;
+
+const replaceCatalog = (products: Product[]) => {
+  corpus = products;
+  loadedAt = Date.now();
+  sessionStorage.setItem(SESSION_KEY, "1");
+  searchIndex.rebuild(products);
+  indexed = true;
+  notify();
+  persist(products);
+};
+
+export const upsertCatalogProduct = (product: Product) => {
+  ensureIndexed();
+  const current = readCorpus();
+  corpus = current.some((p) => p.id === product.id)
+    ? current.map((p) => (p.id === product.id ? product : p))
+    : [...current, product];
+  searchIndex.upsert(product);
+  notify();
+  persist(corpus);
+};
+
+export const removeCatalogProduct = (id: number) => {
+  ensureIndexed();
+  corpus = readCorpus().filter((p) => p.id !== id);
+  searchIndex.remove(id);
+  notify();
+  persist(corpus);
+};
+
+// Uç nokta cursor ile sayfalıdır: nextCursor boşalana kadar tüm sayfalar çekilir.
+// Arama tüm alanlara ihtiyaç duyar; kart sayfalarının aksine fields parametresi gönderilmez.
+const fetchAllProducts = async (): Promise<Product[]> => {
+  const products: Product[] = [];
+  let cursor: string | null = null;
+  do {
+    const params = new URLSearchParams({ sort: "id,asc", size: String(PAGE_SIZE) });
+    if (cursor) params.set("cursor", cursor);
+    const page: ProductPage = await getJson<ProductPage>(`/api/v1/products?${params}`);
+    products.push(...page.content);
+    cursor = page.nextCursor ?? null;
+  } while (cursor);
+  return products;
+};
+
+// Süren bir yükleme varsa onun arkasına yeni bir tam yükleme eklenir
+export const refreshSearchCatalog = (): Promise<void> => {
+  const previous = pending ? pending.catch(() => {}) : Promise.resolve();
+  const request = previous.then(fetchAllProducts).then(replaceCatalog);
+  pending = request;
+  const clear = () => {
+    if (pending === request) pending = null;
+  };
+  request.then(clear, clear);
+  return request;
+};
+
+// Ana sayfa tüm kataloğu indirmediği için katalog burada çekilir: her oturumda en az
+// bir kez ve saklanan kopya eskidiğinde. Yenileme sürerken saklanan kopyada aranır.
+export const loadSearchCatalog = (): Promise<void> => {
+  ensureIndexed();
+  if (isFresh()) return Promise.resolve();
+  return pending ?? refreshSearchCatalog();
+};
+
+export const searchCatalog = (query: string, filters: { category?: string; brand?: string }) => {
+  ensureIndexed();
+  return searchIndex.search(query, filters);
+};
+
+export const getCatalogVersion = () => version;
+
+export const subscribeCatalog = (listener: () => void) => {
+  listeners.add(listener);
+  return () => {
+    listeners.delete(listener);
+  };
+};
@@ -0,0 +1,185 @@
+import { Product } from "../models/Product";
+
+// Ürünler için bellek içi ters indeks (token -> ürün id'leri).
+// Başlık, açıklama, marka ve kategori indekslenir; sorgular önek eşleşmesi ve
+// küçük yazım hatalarına tolerans (Levenshtein) ile çalışır. Her aramada tüm
+// listeyi taramak yerine yalnızca eşleşen token'ların ürünlerine bakılır.
+
+export interface SearchFacets {
+  category: Record<string, number>;
+  brand: Record<string, number>;
+}
+
+export interface SearchResult {
+  products: Product[];
+  facets: SearchFacets;
+}
+
+const normalize = (text: string) =>
+  text
+    .toLocaleLowerCase("tr-TR")
+    .normalize("NFD")
+    .replace(/[\u0300-\u036f]/g, "")
+    .replace(/ı/g, "i");
+
+const tokenize = (text?: string) =>
+  text ? normalize(text).split(/[^\p{L}\p{N}]+/u).filter(Boolean) : [];
+
+// Token uzunluğuna göre izin verilen hata sayısı
+const maxEdits = (token: string) => (token.length >= 8 ? 2 : token.length >= 4 ? 1 : 0);
+
+// Eşik aşıldığında erken çıkan Levenshtein mesafesi
+const withinDistance = (a: string, b: string, limit: number) => {
+  if (Math.abs(a.length - b.length) > limit) return false;
+  let prev = Array.from({ length: b.length + 1 }, (_, i) => i);
+  for (let i = 1; i <= a.length; i++) {
+    const curr = [i];
+    let rowMin = i;
+    for (let j = 1; j <= b.length; j++) {
+      const cost = a[i - 1] === b[j - 1] ? 0 : 1;
+      curr[j] = Math.min(prev[j] + 1, curr[j - 1] + 1, prev[j - 1] + cost);
+      rowMin = Math.min(rowMin, curr[j]);
+    }
+    if (rowMin > limit) return false;
+    prev = curr;
+  }
+  return prev[b.length] <= limit;
+};
+
+class SearchIndex {
+  private docs = new Map<number, Product>();
+  private docTokens = new Map<number, string[]>();
+  private postings = new Map<string, Set<number>>();
+  private sortedTokens: string[] = [];
+  private dirty = false;
+
+  upsert(product: Product) {
+    this.remove(product.id);
+    const tokens = Array.from(
+      new Set([
+        ...tokenize(product.title),
+        ...tokenize(product.description),
+        ...tokenize(product.brand),
+        ...tokenize(product.category),
+      ])
+    );
+    tokens.forEach((token) => {
+      let ids = this.postings.get(token);
+      if (!ids) {
+        ids = new Set();
+        this.postings.set(token, ids);
+        this.dirty = true;
+      }
+      ids.add(product.id);
+    });
+    this.docs.set(product.id, product);
+    this.docTokens.set(product.id, tokens);
+  }
+
+  remove(id: number) {
+    const tokens = this.docTokens.get(id);
+    if (!tokens) return;
+    tokens.forEach((token) => {
+      const ids = this.postings.get(token);
+      ids?.delete(id);
+      if (ids && ids.size === 0) {
+        this.postings.delete(token);
+        this.dirty = true;
+      }
+    });
+    this.docs.delete(id);
+    this.docTokens.delete(id);
+  }
+
+  // İndeksi verilen katalogla baştan kurar. Yalnızca katalog değiştiğinde
+  // (SearchCatalog) çağrılır; tekil yazımlar upsert/remove ile işlenir.
+  rebuild(products: Product[]) {
+    this.docs.clear();
+    this.docTokens.clear();
+    this.postings.clear();
+    this.dirty = true;
+    products.forEach((p) => this.upsert(p));
+  }
+
+  search(query: string, filters: { category?: string; brand?: string } = {}): SearchResult {
+    const queryTokens = tokenize(query);
+    let matched: Map<number, number> | null = null;
+
+    // Tüm sorgu token'ları eşleşmeli (AND); puanlar toplanır
+    for (const token of queryTokens) {
+      const scores = this.matchToken(token);
+      if (matched === null) {
+        matched = scores;
+        continue;
+      }
+      const next = new Map<number, number>();
+      matched.forEach((score, id) => {
+        const s = scores.get(id);
+        if (s !== undefined) next.set(id, score + s);
+      });
+      matched = next;
+    }
+
+    const ranked = Array.from((matched ?? new Map<number, number>()).entries())
+      .sort((a, b) => b[1] - a[1])
+      .map(([id]) => this.docs.get(id)!);
+
+    const facets: SearchFacets = { category: {}, brand: {} };
+    ranked.forEach((p) => {
+      if (p.category) facets.category[p.category] = (facets.category[p.category] ?? 0) + 1;
+      if (p.brand) facets.brand[p.brand] = (facets.brand[p.brand] ?? 0) + 1;
+    });
+
+    const products = ranked.filter(
+      (p) =>
+        (!filters.category || p.category === filters.category) &&
+        (!filters.brand || p.brand === filters.brand)
+    );
+
+    return { products, facets };
+  }
+
+  // Tam eşleşme 3, önek 2, yazım hatalı eşleşme 1 puan
+  private matchToken(token: string) {
+    const scores = new Map<number, number>();
+    const add = (ids: Set<number> | undefined, score: number) =>
+      ids?.forEach((id) => scores.set(id, Math.max(scores.get(id) ?? 0, score)));
+
+    const tokens = this.tokens();
+    let lo = 0;
+    let hi = tokens.length;
+    while (lo < hi) {
+      const mid = (lo + hi) >> 1;
+      if (tokens[mid] < token) lo = mid + 1;
+      else hi = mid;
+    }
+    for (let i = lo; i < tokens.length && tokens[i].startsWith(token); i++) {
+      add(this.postings.get(tokens[i]), tokens[i] === token ? 3 : 2);
+    }
+
+    const limit = maxEdits(token);
+    if (limit > 0) {
+      tokens.forEach((candidate) => {
+        if (candidate.startsWith(token)) return;
+        if (
+          withinDistance(token, candidate, limit) ||
+          withinDistance(token, candidate.slice(0, token.length), limit)
+        ) {
+          add(this.postings.get(candidate), 1);
+        }
+      });
+    }
+
+    return scores;
+  }
+
+  private tokens() {
+    if (this.dirty) {
+      this.sortedTokens = Array.from(this.postings.keys()).sort();
+      this.dirty = false;
+    }
+    return this.sortedTokens;
+  }
+}
+
+export const searchIndex = new SearchIndex();
@@ -0,0 +1,115 @@
+import { Config } from "./Config";
+
+// Sipariş/ödeme durum değişiklikleri sunucudan Server-Sent Events ile itilir.
+// Olaylar yalnızca küçük bir durum farkı taşır; sayfalar tüm siparişi yeniden çekmez.
+// EventSource başlık gönderemediği için akış fetch ile Bearer token taşıyarak okunur;
+// sunucu akışı token'daki kullanıcıya (yönetici için tüm siparişlere) göre daraltır.
+export interface StatusEvent {
+  type: "ORDER" | "PAYMENT";
+  id: number;
+  orderId?: number;
+  status: string;
+}
+
+type Listener = (event: StatusEvent) => void;
+
+interface Channel {
+  controller: AbortController;
+  listeners: Set<Listener>;
+  errorListeners: Set<() => void>;
+}
+
+const RECONNECT_MS = 3000;
+
+// Sunucu akışı reddetti (401/403/404): yeniden bağlanmak anlamsız
+class StreamRejectedError extends Error {}
+
+// Aynı akışa abone olan bileşenler tek bağlantıyı paylaşır
+const channels = new Map<string, Channel>();
+
+const dispatch = (channel: Channel, data: string) => {
+  // Bozuk ya da boş mesajlar yok sayılır
+  let event: StatusEvent;
+  try {
+    event = JSON.parse(data);
+  } catch {
+    return;
+  }
+  channel.listeners.forEach((l) => l(event));
+};
+
+const readStream = async (channel: Channel, body: ReadableStream<Uint8Array>) => {
+  const reader = body.getReader();
+  const decoder = new TextDecoder();
+  let buffer = "";
+  let data: string[] = [];
+
+  for (;;) {
+    const { done, value } = await reader.read();
+    if (done) return;
+    buffer += decoder.decode(value, { stream: true });
+    const lines = buffer.split(/\r?\n/);
+    buffer = lines.pop() ?? "";
+    for (const line of lines) {
+      if (line === "") {
+        if (data.length) dispatch(channel, data.join("\n"));
+        data = [];
+      } else if (line.startsWith("data:")) {
+        data.push(line.slice(5).replace(/^ /, ""));
+      }
+      // ":" ile başlayan keep-alive yorumları ve event/id alanları kullanılmaz
+    }
+  }
+};
+
+const connect = (path: string, channel: Channel) => {
+  const token = localStorage.getItem("token");
+  fetch(`${Config.api.baseUrl}${path}`, {
+    headers: {
+      Accept: "text/event-stream",
+      ...(token ? { Authorization: `Bearer ${token}` } : {}),
+    },
+    signal: channel.controller.signal,
+  })
+    .then((res) => {
+      if (!res.ok || !res.body) throw new StreamRejectedError(`Olay akışı açılamadı: ${res.status}`);
+      return readStream(channel, res.body);
+    })
+    .catch((err) => err)
+    .then((err) => {
+      if (channel.controller.signal.aborted) return;
+      channel.errorListeners.forEach((l) => l());
+      // Akış koptuysa EventSource gibi bir süre sonra yeniden bağlanılır
+      if (!(err instanceof StreamRejectedError) && channels.get(path) === channel) {
+        setTimeout(() => {
+          if (channels.get(path) === channel) connect(path, channel);
+        }, RECONNECT_MS);
+      }
+    });
+};
+
+export const subscribeStatus = (path: string, listener: Listener, onError?: () => void) => {
+  let channel = channels.get(path);
+  if (!channel) {
+    const created: Channel = { controller: new AbortController(), listeners: new Set(), errorListeners: new Set() };
+    channels.set(path, created);
+    connect(path, created);
+    channel = created;
+  }
+
+  const current = channel;
+  current.listeners.add(listener);
+  if (onError) current.errorListeners.add(onError);
+
+  let active = true;
+  return () => {
+    if (!active) return;
+    active = false;
+    current.listeners.delete(listener);
+    if (onError) current.errorListeners.delete(onError);
+    if (current.listeners.size === 0) {
+      current.controller.abort();
+      channels.delete(path);
+    }
+  };
+};
@@ -0,0 +1,7 @@
+import { useSyncExternalStore } from "react";
+import { getCategorySnapshot, subscribeCategories } from "../helpers/CategorySnapshot";
+
+// Kategori görüntüsü yüklendiğinde ya da yenilendiğinde bileşen yeniden çizilir
+const useCategorySnapshot = () => useSyncExternalStore(subscribeCategories, getCategorySnapshot);
+
+export default useCategorySnapshot;
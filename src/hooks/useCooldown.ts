@@ -0,0 +1,16 @@
+import { useEffect, useState } from "react";
+
+// Geri sayım: süre bitene kadar ilgili buton devre dışı kalır
+const useCooldown = () => {
+  const [remaining, setRemaining] = useState(0);
+
+  useEffect(() => {
+    if (remaining <= 0) return;
+    const timer = setTimeout(() => setRemaining((s) => s - 1), 1000);
+    return () => clearTimeout(timer);
+  }, [remaining]);
+
+  return { remaining, startCooldown: setRemaining };
+};
+
+export default useCooldown;
@@ -0,0 +1,15 @@
+import { useEffect, useSyncExternalStore } from "react";
+import { getCatalogVersion, loadSearchCatalog, subscribeCatalog } from "../helpers/SearchCatalog";
+
+// Arama kataloğunun sürümünü döner; katalog yüklenip değiştikçe bileşen yeniden çizilir
+const useSearchCatalog = () => {
+  const version = useSyncExternalStore(subscribeCatalog, getCatalogVersion);
+
+  useEffect(() => {
+    loadSearchCatalog().catch((err) => console.error("Ürünler alınamadı:", err));
+  }, []);
+
+  return version;
+};
+
+export default useSearchCatalog;
@@ -0,0 +1,10 @@
+export interface Address {
+  id: number;
+  street: string;
+  city: string;
+  state: string;
+  zipCode: string;
+  country: string;
+  userId?: number;
+  formattedAddress?: string;
+}
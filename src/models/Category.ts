@@ -1,4 +1,5 @@
 export interface Category {
+  id?: number;
   name: string;
   slug: string;
   url: string;
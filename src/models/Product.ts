@@ -4,6 +4,8 @@ export interface Product {
   images?: string[];
   price: number;
   rating?: number;
+  reviewCount?: number;
+  ratingHistogram?: number[]; // 1..5 yıldız için yorum sayıları
   thumbnail?: string;
   description?: string;
   category: string;
@@ -0,0 +1,18 @@
+import { Product } from "./Product";
+
+export type ProductSort =
+  | "default"
+  | "asc"
+  | "desc"
+  | "rating"
+  | "discount";
+
+// Ürün kartı ızgaraları için istenen alanlar (?fields=). Açıklama, ölçüler,
+// meta, yorumlar ve tüm görsel listesi yalnızca ürün detayında gelir.
+export const PRODUCT_CARD_FIELDS =
+  "id,title,price,discountPercentage,rating,thumbnail,category";
+
+export interface ProductPage {
+  content: Product[];
+  nextCursor?: string | null;
+}
@@ -1,5 +1,6 @@
 export interface ReviewItem {
-  username: string;
+  reviewerName: string;
   rating: number;
-  review: string;
+  comment: string;
+  date?: string;
 }
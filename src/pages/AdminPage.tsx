@@ -1,6 +1,7 @@
 import { useNavigate } from "react-router-dom";
 import ProductManagement from "./ProductManagement";
 import CategoryManagement from "./CategoryManagement";
+import ExportPanel from "../components/ExportPanel";
 
 const AdminPage = () => {
   const navigate = useNavigate();
@@ -18,6 +19,9 @@ const AdminPage = () => {
           <div className="lg:col-span-4 space-y-6">
             <CategoryManagement />
 
+            {/* Sipariş ve ödeme dökümleri yalnızca yönetici rotasında */}
+            <ExportPanel />
+
             {/* Tüm Siparişler Butonu */}
             <button
                 onClick={() => navigate("/orders")}
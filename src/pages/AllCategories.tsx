@@ -1,38 +1,29 @@
 import { FC, useEffect } from "react";
 import { useAppDispatch, useAppSelector } from "../redux/hooks";
-import { addCategories } from "../redux/features/productSlice";
 import { Link } from "react-router-dom";
 import { updateLoading } from "../redux/features/homeSlice";
-import { Config } from "../helpers/Config";
+import { getCategorySnapshot, loadCategories } from "../helpers/CategorySnapshot";
+import useCategorySnapshot from "../hooks/useCategorySnapshot";
 
 const AllCategories: FC = () => {
   const dispatch = useAppDispatch();
 
-  const allCategories = useAppSelector(
-      (state) => state.productReducer.categories
-  );
+  // Liste doğrudan paylaşılan görüntüden okunur; yönetici yazımından sonra
+  // refreshCategories() yeni görüntüyü koyduğunda sayfa kendiliğinden güncellenir
+  const { list: allCategories } = useCategorySnapshot();
   const isLoading = useAppSelector((state) => state.homeReducer.isLoading);
 
   useEffect(() => {
-    if (allCategories.length > 0) return;
-
-    dispatch(updateLoading(true));
+    // Yerelde saklanan görüntü varken yükleme göstergesi açılmaz
+    const isEmpty = getCategorySnapshot().list.length === 0;
+    if (isEmpty) dispatch(updateLoading(true));
 
-    fetch(`${Config.api.baseUrl}/api/v1/categories`, {
-      method: "GET",
-      headers: {
-        "Content-Type": "application/json",
-      },
-    })
-        .then((res) => res.json())
-        .then((data) => {
-          dispatch(addCategories(data));
-          localStorage.setItem("categories", JSON.stringify(data));
-        })
+    loadCategories()
+        .catch((err) => console.error("Kategoriler yüklenemedi:", err))
         .finally(() => {
-          dispatch(updateLoading(false));
+          if (isEmpty) dispatch(updateLoading(false));
         });
-  }, [dispatch, allCategories.length]);
+  }, [dispatch]);
 
   return (
       <div className="container mx-auto min-h-[83vh] p-4 md:p-8 font-karla">
@@ -1,5 +1,6 @@
 import { useEffect, useState } from "react";
 import { Config } from "../helpers/Config";
+import { subscribeStatus } from "../helpers/StatusEvents";
 
 // Yeni eklenen Adres arayüzü
 interface Address {
@@ -10,25 +11,30 @@ interface Address {
     fullAddress: string;
 }
 
-interface OrderItem {
+// Liste görünümü özet projeksiyonu kullanır: ürün başına yalnızca id/ad/fiyat/küçük resim gelir.
+// Görseller, ölçüler, meta ve yorumlar sadece tekil sipariş detayında (/orders/{id}) döner.
+interface OrderItemSummary {
     productId: number;
     productName: string;
+    // Sipariş yazılırken sunucuda alınan anlık kopya; satır tutarı bunlardan hesaplanır
     productPrice: number;
+    discountPercentage?: number;
+    thumbnail?: string | null;
     quantity: number;
 }
 
-interface Order {
+interface OrderSummary {
     id: number;
     userId: number | null;
     orderDate: string;
     totalPrice: number;
-    items: OrderItem[];
+    items: OrderItemSummary[];
     address: Address | null; // addressId -> address olarak güncellendi
     status: string | null;
 }
 
 const AllOrdersPage = () => {
-    const [orders, setOrders] = useState<Order[]>([]);
+    const [orders, setOrders] = useState<OrderSummary[]>([]);
     const [loading, setLoading] = useState(true);
     const [error, setError] = useState("");
     const [searchTerm, setSearchTerm] = useState("");
@@ -37,14 +43,14 @@ const AllOrdersPage = () => {
         const fetchOrders = async () => {
             try {
                 const response = await fetch(
-                    `${Config.api.baseUrl}/api/v1/orders`
+                    `${Config.api.baseUrl}/api/v1/orders?view=summary`
                 );
 
                 if (!response.ok) {
                     throw new Error("Siparişler alınamadı");
                 }
 
-                const data: Order[] = await response.json();
+                const data: OrderSummary[] = await response.json();
                 setOrders(data);
             } catch (err: unknown) {
                 if (err instanceof Error) {
@@ -60,6 +66,18 @@ const AllOrdersPage = () => {
         fetchOrders();
     }, []);
 
+    // Durum değişiklikleri itilir; liste yeniden çekilmeden yalnızca ilgili sipariş güncellenir
+    useEffect(
+        () =>
+            subscribeStatus("/api/v1/events/orders", (event) => {
+                if (event.type !== "ORDER") return;
+                setOrders((prev) =>
+                    prev.map((order) => (order.id === event.id ? { ...order, status: event.status } : order))
+                );
+            }),
+        []
+    );
+
     const filteredOrders = orders.filter((order) => {
         const searchLower = searchTerm.toLowerCase();
 
@@ -176,8 +194,15 @@ const AllOrdersPage = () => {
                                         <ul className="divide-y divide-gray-100">
                                             {order.items.map((item, index) => (
                                                 <li key={index} className="py-2 flex justify-between text-sm italic">
-                                                    <span className="text-gray-700">{item.productName} <span className="text-gray-400 font-normal">x{item.quantity}</span></span>
-                                                    <span className="font-medium text-gray-900">{item.productPrice.toLocaleString("tr-TR")} ₺</span>
+                                                    <span className="flex items-center gap-2 text-gray-700">
+                                                        {item.thumbnail && (
+                                                            <img src={item.thumbnail} alt={item.productName} loading="lazy" className="h-8 w-8 rounded object-cover" />
+                                                        )}
+                                                        {item.productName} <span className="text-gray-400 font-normal">x{item.quantity}</span>
+                                                    </span>
+                                                    <span className="font-medium text-gray-900">
+                                                        {(item.productPrice * (1 - (item.discountPercentage ?? 0) / 100) * item.quantity).toLocaleString("tr-TR")} ₺
+                                                    </span>
                                                 </li>
                                             ))}
                                         </ul>
@@ -1,24 +1,38 @@
-import { FC, useEffect } from "react";
+import { FC, useCallback, useEffect, useRef, useState } from "react";
 import { useAppSelector, useAppDispatch } from "../redux/hooks";
 import { addProducts } from "../redux/features/productSlice";
 import { updateLoading } from "../redux/features/homeSlice";
 import { Product } from "../models/Product";
+import { PRODUCT_CARD_FIELDS, ProductPage, ProductSort } from "../models/ProductPage";
 
 import SortProducts from "../components/SortProducts";
 import PaginatedProducts from "../components/PaginatedProducts";
 import { Config } from "../helpers/Config";
 
+const PAGE_SIZE = 20;
+
+// Sıralama sunucuda yapılır; cursor bir önceki sayfanın son satırını işaret eder,
+// böylece N. sayfa da ilk sayfa kadar ucuzdur (OFFSET taraması yok).
+// Fiyat sıralaması kartlarda gösterilen indirimli fiyata (finalPrice) göredir.
+const SORT_PARAMS: Record<ProductSort, string> = {
+    default: "id,asc",
+    asc: "finalPrice,asc",
+    desc: "finalPrice,desc",
+    rating: "rating,desc",
+    discount: "discountPercentage,desc",
+};
 
 const AllProducts: FC = () => {
 
 
 
     const dispatch = useAppDispatch();
+    const [sort, setSort] = useState<ProductSort>("default");
+    const [nextCursor, setNextCursor] = useState<string | null>(null);
+    // Sıralama değişince önceki sıralamaya ait geç gelen yanıtlar yok sayılır
+    const requestId = useRef(0);
 
     // const API_URL = Config.api.baseUrl;
-    const handleSort = (sortedProducts: Product[]) => {
-        dispatch(addProducts(sortedProducts));
-    };
     // localStorage.setItem("userId", data.id);
     const allProducts = useAppSelector(
         state => state.productReducer.allProducts ?? []
@@ -32,26 +46,45 @@ const AllProducts: FC = () => {
     );
 
 
+    const fetchPage = useCallback(
+        (cursor: string | null, loaded: Product[]) => {
+            const params = new URLSearchParams({
+                sort: SORT_PARAMS[sort],
+                size: String(PAGE_SIZE),
+                fields: PRODUCT_CARD_FIELDS,
+            });
+            if (cursor) params.set("cursor", cursor);
+
+            const current = ++requestId.current;
+            return fetch(`${Config.api.baseUrl}/api/v1/products?${params}`)
+                .then(res => res.json())
+                .then((data: ProductPage) => {
+                    if (current !== requestId.current) return;
+                    // Yalnızca yüklenen sayfalar burada; arama kataloğu (localStorage "products") ayrıca yüklenir
+                    const products = [...loaded, ...data.content];
+
+                    setNextCursor(data.nextCursor ?? null);
+                    dispatch(addProducts(products));
+                });
+        },
+        [dispatch, sort]
+    );
+
+
     useEffect(() => {
         dispatch(updateLoading(true));
 
-        fetch(`${Config.api.baseUrl}/api/v1/products`)
-            .then(res => res.json())
-            .then((data: { content: Product[] }) => {
-                const productIds = data.content.map(p => p.id);
-
-                localStorage.setItem("productIds", JSON.stringify(productIds));  // başka bir bileşende kullanılmak üzere productIds'yi localStorage a kaydettik
-                localStorage.setItem("products", JSON.stringify(data.content)); // başka bir bileşende kullanılmak üzere products'ı localStorage a kaydettik
+        fetchPage(null, []).finally(() => {
+            dispatch(updateLoading(false));
+        });
 
+    }, [dispatch, fetchPage]);
 
 
-                dispatch(addProducts(data.content));
-            })
-            .finally(() => {
-                dispatch(updateLoading(false));
-            });
+    const handleLoadMore = () => {
+        if (nextCursor) fetchPage(nextCursor, allProducts);
+    };
 
-    }, [dispatch]);
 
 
     /*
@@ -86,13 +119,15 @@ const AllProducts: FC = () => {
                         <span className="text-lg dark:text-white">Ürünler</span>
                         <SortProducts
                             products={allProducts}
-                            onChange={handleSort}/>
+                            onSortChange={setSort}/>
                     </div>
 
                     <PaginatedProducts
                         products={allProducts}
                         isLoading={isLoading}
                         initialRows={5}
+                        hasMore={nextCursor !== null}
+                        onLoadMore={handleLoadMore}
                     />
                 </div>
             </div>
@@ -1,5 +1,6 @@
 import { useState, useEffect, FC } from "react";
 import { Config } from "../helpers/Config";
+import { refreshCategories } from "../helpers/CategorySnapshot";
 import { useAppSelector } from "../redux/hooks";
 import { Navigate } from "react-router-dom";
 
@@ -36,11 +37,9 @@ const CategoryManagement: FC = () => {
   // --- VERİ ÇEKME ---
   const fetchCategories = async () => {
     try {
-      const res = await fetch(`${Config.api.baseUrl}/api/v1/categories`);
-      if (res.ok) {
-        const data = await res.json();
-        setCategories(data);
-      }
+      // Yazımdan sonra paylaşılan kategori görüntüsü de yenilenir
+      const snapshot = await refreshCategories();
+      setCategories([...snapshot.list]);
     } catch (error) {
       console.error("Kategoriler yüklenirken hata:", error);
     }
@@ -99,6 +98,7 @@ const CategoryManagement: FC = () => {
 
       if (res.ok) {
         setCategories(categories.filter((c) => c.id !== id));
+        refreshCategories().catch(() => {});
       } else {
         alert("Silme işlemi başarısız. Bu kategoriye bağlı ürünler olabilir.");
       }
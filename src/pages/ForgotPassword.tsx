@@ -1,14 +1,26 @@
 import { useState } from "react";
 import { Config } from "../helpers/Config";
+import { busyMessage, markThrottled, retryAfterSeconds, throttleRemaining } from "../helpers/RateLimit";
+import useCooldown from "../hooks/useCooldown";
 
+// Aynı adrese bir dakika içinde ikinci bağlantı istenmez
+const RESEND_SECONDS = 60;
 
 const ForgotPassword: React.FC = () => {
   const [email, setEmail] = useState("");
   const [status, setStatus] = useState<"idle" | "loading" | "success" | "error">("idle");
   const [message, setMessage] = useState("");
+  const { remaining, startCooldown } = useCooldown();
 
   const handleSubmit = async (e: React.FormEvent) => {
     e.preventDefault();
+    const pending = throttleRemaining(`reset:${email}`);
+    if (pending > 0) {
+      startCooldown(pending);
+      setStatus("error");
+      setMessage(`Yeni bir bağlantı istemek için ${pending} saniye bekleyin.`);
+      return;
+    }
     setStatus("loading");
 
     try {
@@ -18,10 +30,22 @@ const ForgotPassword: React.FC = () => {
         body: JSON.stringify({ email }),
       });
 
+      const wait = retryAfterSeconds(res);
+      if (wait) {
+        markThrottled(`reset:${email}`, wait);
+        startCooldown(wait);
+        setStatus("error");
+        setMessage(busyMessage(wait));
+        return;
+      }
+
       if (!res.ok) throw new Error("Request failed");
 
+      markThrottled(`reset:${email}`, RESEND_SECONDS);
+      startCooldown(RESEND_SECONDS);
       setStatus("success");
-      setMessage("Şifre sıfırlama linki email adresinize gönderildi.");
+      // Gönderim kuyruğa alınır; e-posta birkaç dakika içinde ulaşır
+      setMessage("Şifre sıfırlama linki birkaç dakika içinde email adresinize gönderilecek.");
     } catch (err) {
       setStatus("error");
       setMessage("Bir hata oluştu. Lütfen tekrar deneyin.");
@@ -47,10 +71,10 @@ const ForgotPassword: React.FC = () => {
             />
             <button
               type="submit"
-              disabled={status === "loading"}
+              disabled={status === "loading" || remaining > 0}
               className="bg-blue-600 text-white py-2.5 rounded-lg font-medium hover:bg-blue-700 transition disabled:opacity-50"
             >
-              {status === "loading" ? "Gönderiliyor..." : "Gönder"}
+              {status === "loading" ? "Gönderiliyor..." : remaining > 0 ? `Tekrar gönder (${remaining})` : "Gönder"}
             </button>
           </form>
 
@@ -1,39 +1,42 @@
  import { FC, useEffect } from "react";
 import { useAppDispatch } from "../redux/hooks";
 import {
-  addProducts,
   updateFeaturedList,
- 
+  updateNewList,
 } from "../redux/features/productSlice";
 import { Product } from "../models/Product";
+import { PRODUCT_CARD_FIELDS } from "../models/ProductPage";
 
 import HeroSection from "../components/HeroSection";
 import Features from "../components/Features";
 import TrendingProducts from "../components/TrendingProducts";
 import Banner from "../components/Banner";
 import LatestProducts from "../components/LatestProducts";
-import { Config } from "../helpers/Config";
+import { getJson } from "../helpers/Api";
+import { loadCategories } from "../helpers/CategorySnapshot";
 
 const HomePage: FC = () => {
   const dispatch = useAppDispatch();
 
 useEffect(() => {
-  fetch(`${Config.api.baseUrl}/api/v1/products`)
-    .then(res => res.json())
-    .then((data: { content: Product[] }) => {
-      const products: Product[] = (data.content ?? []).map(p => ({
-        ...p,
-        thumbnail: p.images?.[0], // null YOK
-      }));
+  // Kategori görüntüsünü ısıt: ürün kartları kategori adını buradan okur
+  loadCategories().catch(() => {});
 
-      const productIds = products.map(p => p.id);
-      localStorage.setItem("productIds", JSON.stringify(productIds));
-      localStorage.setItem("products", JSON.stringify(products));
+  // Trend ve yeni ürün listeleri sunucuda periyodik olarak hazırlanır; ana sayfa
+  // tüm kataloğu çekip kendisi sıralamaz.
+  const withThumbnail = (products: Product[]) =>
+    products.map(p => ({
+      ...p,
+      thumbnail: p.thumbnail ?? p.images?.[0], // null YOK
+    }));
 
-      dispatch(addProducts(products));
-      dispatch(updateFeaturedList(products.slice(0, 8)));
-       // dispatch(updateNewList(products.slice(0, 8)));
-    });
+  getJson<Product[]>(`/api/v1/products/feeds/trending?size=8&fields=${PRODUCT_CARD_FIELDS}`)
+    .then(products => dispatch(updateFeaturedList(withThumbnail(products))))
+    .catch(err => console.error("Trend ürünler alınamadı:", err));
+
+  getJson<Product[]>(`/api/v1/products/feeds/latest?size=8&fields=${PRODUCT_CARD_FIELDS}`)
+    .then(products => dispatch(updateNewList(withThumbnail(products))))
+    .catch(err => console.error("Yeni ürünler alınamadı:", err));
 }, [dispatch]);
 
   return (
@@ -1,19 +1,12 @@
-import { useState, useEffect } from "react";
+import { useState, useEffect, useRef } from "react";
 import { useLocation, useNavigate, Link } from "react-router-dom";
 import { motion } from "framer-motion";
 import { CreditCard, Loader2, AlertCircle, ShieldCheck, ArrowLeft, MapPin, User } from "lucide-react";
 import { Config } from "../helpers/Config.tsx";
 import { IyzicoNavigationState } from "./OrderPage";
-
-interface Address {
-    id: number;
-    street: string;
-    city: string;
-    state: string;
-    zipCode: string;
-    country: string;
-    userId: number;
-}
+import { subscribeStatus } from "../helpers/StatusEvents";
+import { formatAddress, getAddresses } from "../helpers/AddressCache";
+import { Address } from "../models/Address";
 
 interface PaymentRequest {
     orderId: number;
@@ -32,11 +25,130 @@ interface PaymentRequest {
 }
 
 interface PaymentResponse {
+    paymentId?: number;
     paymentPageUrl?: string;
     checkoutFormContent?: string;
     status: string;
 }
 
+// Aynı sipariş için tekrarlanan istekler (çift tıklama, ağ hatası sonrası yeniden deneme)
+// sunucuda tek ödeme olarak ele alınsın diye sipariş başına sabit bir anahtar kullanılır.
+// Kesin bir başarısızlıktan sonra anahtar silinir; aksi halde sunucu her denemede
+// aynı başarısız sonucu döndürür ve ödeme yeniden denenemez.
+// crypto.randomUUID yalnızca güvenli bağlamda ve yeni tarayıcılarda var (iOS 15.4+, Chrome 92+);
+// legacy hedeflerde (iOS 10, Android 5) getRandomValues ile, o da yoksa zaman + rastgele sayı ile üretilir
+const newIdempotencyKey = () => {
+    if (typeof crypto !== "undefined") {
+        if (typeof crypto.randomUUID === "function") return crypto.randomUUID();
+        if (typeof crypto.getRandomValues === "function") {
+            const bytes = crypto.getRandomValues(new Uint8Array(16));
+            return Array.from(bytes, (b) => b.toString(16).padStart(2, "0")).join("");
+        }
+    }
+    return `${Date.now().toString(36)}-${Math.random().toString(36).slice(2)}-${Math.random().toString(36).slice(2)}`;
+};
+
+const idempotencyKeyFor = (orderId: number) => {
+    const storageKey = `paymentKey:${orderId}`;
+    let key = sessionStorage.getItem(storageKey);
+    if (!key) {
+        key = newIdempotencyKey();
+        sessionStorage.setItem(storageKey, key);
+    }
+    return key;
+};
+
+const clearIdempotencyKey = (orderId: number) => sessionStorage.removeItem(`paymentKey:${orderId}`);
+
+// Sunucunun kesin olarak reddettiği ödeme: FAILED sonucu ya da istek/ödeme hatasını
+// bildiren 4xx kodları. 408, 409 (aynı anahtarla istek hâlâ işleniyor) ve 429 ile
+// ağ hatası, 5xx, zaman aşımı belirsizdir; bu durumlarda anahtar korunur ki ikinci
+// bir tıklama aynı sipariş için yeni bir ödeme başlatmasın.
+const DEFINITIVE_FAILURE_STATUSES = new Set([400, 402, 422]);
+
+class PaymentFailedError extends Error {}
+
+const fetchPaymentStatus = async (paymentId: number): Promise<PaymentResponse> => {
+    const res = await fetch(`${Config.api.baseUrl}/api/payments/${paymentId}/status`);
+    if (!res.ok) throw new Error("Ödeme durumu alınamadı.");
+    return res.json();
+};
+
+// 202 Accepted: sağlayıcı çağrısı arka planda sürüyor. Durum değişikliği SSE ile
+// beklenir; akış kurulamazsa ya da olay geldiğinde form henüz hazır değilse artan
+// aralıklarla durum sorgulanır. Süre dolduğunda ya da sayfadan çıkıldığında
+// (signal) bekleme sonlanır, akış ve zamanlayıcılar kapatılır.
+const CHECKOUT_TIMEOUT_MS = 60_000;
+
+const waitForCheckout = (paymentId: number, signal: AbortSignal) =>
+    new Promise<PaymentResponse>((resolve, reject) => {
+        let settled = false;
+        let pollTimer: ReturnType<typeof setTimeout> | undefined;
+        let unsubscribe = () => {};
+
+        const finish = (result?: PaymentResponse, error?: Error) => {
+            if (settled) return;
+            settled = true;
+            unsubscribe();
+            clearTimeout(pollTimer);
+            clearTimeout(deadline);
+            signal.removeEventListener("abort", onAbort);
+            if (result) resolve(result);
+            else reject(error);
+        };
+
+        const onAbort = () => finish(undefined, new DOMException("Aborted", "AbortError"));
+        const deadline = setTimeout(
+            () => finish(undefined, new Error("Ödeme sayfası zamanında hazırlanamadı.")),
+            CHECKOUT_TIMEOUT_MS
+        );
+        if (signal.aborted) {
+            onAbort();
+            return;
+        }
+        signal.addEventListener("abort", onAbort);
+
+        const check = async () => {
+            try {
+                const result = await fetchPaymentStatus(paymentId);
+                if (result.checkoutFormContent || result.paymentPageUrl) finish(result);
+                else if (result.status === "FAILED") finish(undefined, new PaymentFailedError("Ödeme başlatılamadı."));
+                return settled;
+            } catch (err) {
+                finish(undefined, err as Error);
+                return true;
+            }
+        };
+
+        const poll = (delay: number) => {
+            if (settled || pollTimer !== undefined) return;
+            pollTimer = setTimeout(async () => {
+                pollTimer = undefined;
+                if (!(await check())) poll(Math.min(delay * 2, 4000));
+            }, delay);
+        };
+
+        // Olay geldiğinde form/URL hazır değilse sorgulamaya devam edilir
+        const recheck = async () => {
+            if (!(await check())) poll(500);
+        };
+
+        const stop = subscribeStatus(
+            `/api/payments/${paymentId}/events`,
+            (event) => {
+                if (event.status !== "PENDING") recheck();
+            },
+            () => {
+                stop();
+                poll(500);
+            }
+        );
+        unsubscribe = stop;
+
+        // Abonelik kurulmadan önce hazır olmuş olabilir
+        recheck();
+    });
+
 const Iyzico = () => {
     const location = useLocation();
     const navigate = useNavigate();
@@ -53,6 +165,23 @@ const Iyzico = () => {
 
     const storedUserId = localStorage.getItem("userId");
 
+    // Sayfadan çıkılınca süren ödeme beklemesi iptal edilir
+    const waitController = useRef<AbortController | null>(null);
+    useEffect(() => () => waitController.current?.abort(), []);
+
+    // Ödeme yapılmazsa stok rezervasyonu sunucuda bırakılır; süre dolunca ödeme başlatılmaz
+    const expiresAt = state?.reservationExpiresAt ? new Date(state.reservationExpiresAt).getTime() : null;
+    const [remainingMs, setRemainingMs] = useState<number | null>(
+        expiresAt ? expiresAt - Date.now() : null
+    );
+    const isReservationExpired = remainingMs !== null && remainingMs <= 0;
+
+    useEffect(() => {
+        if (!expiresAt) return;
+        const timer = setInterval(() => setRemainingMs(expiresAt - Date.now()), 1000);
+        return () => clearInterval(timer);
+    }, [expiresAt]);
+
     useEffect(() => {
         if (!state) {
             navigate("/cart");
@@ -66,9 +195,7 @@ const Iyzico = () => {
             }
 
             try {
-                const response = await fetch(`${Config.api.baseUrl}/api/v1/users/${storedUserId}/addresses`);
-                if (!response.ok) throw new Error("Adresler yüklenemedi.");
-                const data: Address[] = await response.json();
+                const data = await getAddresses(storedUserId);
                 setAddresses(data);
                 if (data.length > 0) setSelectedAddressId(data[0].id);
             } catch (err) {
@@ -87,6 +214,10 @@ const Iyzico = () => {
             return;
         }
         if (!state) return;
+        if (isReservationExpired) {
+            setError("Ürünler için ayrılan süre doldu. Lütfen siparişi yeniden oluşturun.");
+            return;
+        }
 
         setIsProcessing(true);
         setError(null);
@@ -114,12 +245,24 @@ const Iyzico = () => {
         try {
             const response = await fetch(`${Config.api.baseUrl}/api/payments/iyzico-start`, {
                 method: "POST",
-                headers: { "Content-Type": "application/json" },
+                headers: {
+                    "Content-Type": "application/json",
+                    "Idempotency-Key": idempotencyKeyFor(state.orderId),
+                },
                 body: JSON.stringify(paymentRequest),
             });
 
-            if (!response.ok) throw new Error("Ödeme başlatılamadı.");
-            const result: PaymentResponse = await response.json();
+            if (!response.ok) {
+                throw DEFINITIVE_FAILURE_STATUSES.has(response.status)
+                    ? new PaymentFailedError("Ödeme başlatılamadı.")
+                    : new Error("Ödeme başlatılamadı.");
+            }
+            let result: PaymentResponse = await response.json();
+            if (result.status === "FAILED") throw new PaymentFailedError("Ödeme başlatılamadı.");
+            if (response.status === 202 && result.paymentId) {
+                waitController.current = new AbortController();
+                result = await waitForCheckout(result.paymentId, waitController.current.signal);
+            }
 
             if (result.checkoutFormContent) {
                 const checkoutDiv = document.getElementById("iyzipay-checkout-form");
@@ -138,6 +281,12 @@ const Iyzico = () => {
                 window.location.href = result.paymentPageUrl;
             }
         } catch (err) {
+            if (err instanceof DOMException && err.name === "AbortError") return;
+            if (err instanceof PaymentFailedError) {
+                clearIdempotencyKey(state.orderId);
+                setError("Ödeme başlatılamadı. Lütfen tekrar deneyin.");
+                return;
+            }
             setError("Ödeme sistemiyle bağlantı kurulamadı.");
         } finally {
             setIsProcessing(false);
@@ -177,6 +326,14 @@ const Iyzico = () => {
                     </span>
                 </div>
 
+                {remainingMs !== null && (
+                    <div className={`mb-6 p-3 rounded-xl text-sm font-bold ${isReservationExpired ? "bg-red-50 text-red-600" : "bg-yellow-50 text-yellow-700"}`}>
+                        {isReservationExpired
+                            ? "Ürünler için ayrılan süre doldu."
+                            : `Ürünleriniz ${Math.floor(remainingMs / 60000)}:${String(Math.floor((remainingMs % 60000) / 1000)).padStart(2, "0")} süreyle sizin için ayrıldı.`}
+                    </div>
+                )}
+
                 <div className="mb-6 text-left">
                     {guestInfo ? (
                         <div className="p-6 bg-blue-50/50 border border-blue-100 rounded-2xl">
@@ -212,7 +369,7 @@ const Iyzico = () => {
                                 >
                                     {addresses.map((addr) => (
                                         <option key={addr.id} value={addr.id}>
-                                            {addr.street} - {addr.city}, {addr.state}
+                                            {formatAddress(addr)}
                                         </option>
                                     ))}
                                 </select>
@@ -254,7 +411,7 @@ const Iyzico = () => {
                 {!isProcessing && !document.getElementById("iyzipay-checkout-form")?.innerHTML && (
                     <button
                         onClick={handleStartPayment}
-                        disabled={!isAgreed || (!guestInfo && !selectedAddressId)}
+                        disabled={!isAgreed || (!guestInfo && !selectedAddressId) || isReservationExpired}
                         className={`w-full py-5 rounded-2xl font-black text-lg flex items-center justify-center gap-3 transition-all ${
                             isAgreed && (guestInfo || selectedAddressId)
                             ? "bg-slate-900 text-white shadow-lg"
@@ -12,6 +12,7 @@ import {
     X,
 } from "lucide-react";
 import { Config } from "../helpers/Config.tsx";
+import { invalidateProducts } from "../helpers/ProductCache";
 
 /* --- Tipler --- */
 interface CartItem {
@@ -29,6 +30,8 @@ interface CartResponse {
     totalPrice: number;
 }
 
+// Sipariş satırı yalnızca ürün ve adeti taşır. Ad, birim fiyat ve indirim
+// sipariş yazılırken sunucuda satıra kopyalanır; istemcinin gönderdiği fiyata güvenilmez.
 interface OrderItemRequest {
     productId: number;
     quantity: number;
@@ -37,7 +40,6 @@ interface OrderItemRequest {
 interface OrderRequest {
     userId: number;
     items: OrderItemRequest[];
-    totalPrice: number;
     orderDate: string;
     guestInfo?: GuestInfo; // opsiyonel misafir bilgisi
 }
@@ -45,6 +47,13 @@ interface OrderRequest {
 interface OrderSuccessResponse {
     id: number;
     status: string;
+    totalPrice: number; // sunucunun satır kopyalarından hesapladığı tutar
+    reservationExpiresAt?: string; // stok rezervasyonunun bırakılacağı an
+}
+
+interface StockConflictResponse {
+    message?: string;
+    productIds?: number[];
 }
 
 interface GuestInfo {
@@ -60,6 +69,7 @@ export interface IyzicoNavigationState {
     userId: string;
     cart: CartResponse;
     guestInfo?: GuestInfo;
+    reservationExpiresAt?: string;
 }
 
 /* --- Misafir Bilgi Modalı --- */
@@ -238,11 +248,15 @@ const OrderPage = () => {
 
         const orderBody: OrderRequest = {
             userId: Number(effectiveUserId),
-            items: cart.items.map((item) => ({
-                productId: item.productId,
-                quantity: item.quantity,
-            })),
-            totalPrice: cart.totalPrice,
+            items: Object.values(
+                cart.items.reduce<Record<number, OrderItemRequest>>((lines, item) => {
+                    const line = lines[item.productId];
+                    lines[item.productId] = line
+                        ? { ...line, quantity: line.quantity + item.quantity }
+                        : { productId: item.productId, quantity: item.quantity };
+                    return lines;
+                }, {})
+            ),
             orderDate: new Date().toISOString().split(".")[0],
             ...(isGuest && guestInfo ? { guestInfo } : {}),
         };
@@ -254,17 +268,36 @@ const OrderPage = () => {
                 body: JSON.stringify(orderBody),
             });
 
+            // 409: stok rezerve edilemedi (başka siparişler son adetleri aldı)
+            if (response.status === 409) {
+                const conflict: StockConflictResponse = await response.json().catch(() => ({}));
+                invalidateProducts(conflict.productIds ?? cart.items.map((item) => item.productId));
+                const titles = cart.items
+                    .filter((item) => conflict.productIds?.includes(item.productId))
+                    .map((item) => item.productTitle);
+                alert(
+                    conflict.message ??
+                        `Yetersiz stok${titles.length ? `: ${titles.join(", ")}` : ""}. Lütfen sepetinizi güncelleyin.`
+                );
+                return;
+            }
+
             if (!response.ok) throw new Error("Sipariş oluşturulamadı");
 
             const orderResult: OrderSuccessResponse = await response.json();
 
+            // Sipariş stoğu düşürdü: bu ürünlerin önbellekteki detayları artık eski
+            invalidateProducts(cart.items.map((item) => item.productId));
+
             navigate("/Iyzico", {
                 state: {
                     orderId: orderResult.id,
-                    amount: cart.totalPrice,
+                    // Ödeme tutarı sepetteki değil, sunucunun siparişe yazdığı toplamdır
+                    amount: orderResult.totalPrice,
                     userId: effectiveUserId,
                     cart,
-                    guestInfo
+                    guestInfo,
+                    reservationExpiresAt: orderResult.reservationExpiresAt,
                 },
             });
         } catch (err) {
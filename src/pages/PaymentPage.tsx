@@ -2,6 +2,8 @@ import { FC, useEffect, useState } from "react";
 import { useParams, useNavigate } from "react-router-dom";
 import { useAppSelector } from "../redux/hooks";
 import { Config } from "../helpers/Config";
+import { formatAddress, getAddresses } from "../helpers/AddressCache";
+import { Address } from "../models/Address";
 import {
   CreditCard,
   MapPin,
@@ -13,15 +15,6 @@ import {
 } from "lucide-react";
 import { motion, AnimatePresence } from "framer-motion";
 
-interface Address {
-  id: number;
-  street: string;
-  city: string;
-  state: string;
-  zipCode: string;
-  country: string;
-}
-
 interface OrderDetails {
   id: number;
   totalPrice: number;
@@ -63,11 +56,8 @@ const PaymentPage: FC = () => {
         .catch(() => showToast("Sipariş bilgileri alınamadı", "error"));
 
     // Adresleri çek
-    fetch(`${Config.api.baseUrl}/api/v1/users/${storedUserId}/addresses`, {
-      headers: { "Authorization": `Bearer ${token}` }
-    })
-        .then(res => res.json())
-        .then(data => setAddresses(data || []))
+    getAddresses(storedUserId)
+        .then(setAddresses)
         .catch(() => setAddresses([]));
   }, [orderId]);
 
@@ -115,8 +105,7 @@ const PaymentPage: FC = () => {
                             selectedAddressId === addr.id ? "border-indigo-600 bg-indigo-50/30" : "border-slate-100 hover:border-slate-200"
                         }`}
                     >
-                      <p className="text-sm font-bold text-slate-800 uppercase">{addr.street}</p>
-                      <p className="text-xs text-slate-400 mt-1">{addr.city}, {addr.state}</p>
+                      <p className="text-sm font-bold text-slate-800 uppercase">{formatAddress(addr)}</p>
                     </div>
                 ))}
               </div>
@@ -1,12 +1,24 @@
-import { useEffect } from "react";
-import { useNavigate } from "react-router-dom";
+import { useEffect, useState } from "react";
+import { useNavigate, useSearchParams } from "react-router-dom";
 import { motion } from "framer-motion";
 import { CheckCircle, ArrowRight, PackageCheck } from "lucide-react";
 import { Config } from "../helpers/Config.tsx";
+import { subscribeStatus } from "../helpers/StatusEvents";
 
 const PaymentSuccess = () => {
     const navigate = useNavigate();
     const storedUserId = localStorage.getItem("userId");
+    const [searchParams] = useSearchParams();
+    const orderId = searchParams.get("orderId");
+    const [orderStatus, setOrderStatus] = useState<string | null>(null);
+
+    // Sipariş durumu sorgulanmaz, değiştiğinde sunucu tarafından itilir
+    useEffect(() => {
+        if (!orderId) return;
+        return subscribeStatus(`/api/v1/events/orders/${orderId}`, (event) => {
+            if (event.type === "ORDER") setOrderStatus(event.status);
+        });
+    }, [orderId]);
 
     useEffect(() => {
         // Ödeme başarılı → sepet temizle
@@ -49,6 +61,12 @@ const PaymentSuccess = () => {
                     Siparişiniz işleme alındı ve kısa süre içinde hazırlanacaktır.
                 </p>
 
+                {orderStatus && (
+                    <p className="mb-6 text-sm font-bold text-gray-600">
+                        Sipariş #{orderId} durumu: <span className="text-green-600">{orderStatus}</span>
+                    </p>
+                )}
+
                 <button
                     onClick={() => navigate("/")}
                     className="flex items-center justify-center gap-2 w-full py-4 bg-blue-600 hover:bg-blue-700 text-white rounded-2xl font-bold transition-all"
@@ -1,7 +1,11 @@
-import { FC, useState, useEffect } from "react";
+import { FC, useState, useEffect, useCallback, ChangeEvent } from "react";
 import { Config } from "../helpers/Config";
 import { useAppDispatch } from "../redux/hooks";
 import { updateLoading } from "../redux/features/homeSlice";
+import { refreshSearchCatalog, removeCatalogProduct, upsertCatalogProduct } from "../helpers/SearchCatalog";
+import { clearProductCache, invalidateProduct } from "../helpers/ProductCache";
+import { loadCategories } from "../helpers/CategorySnapshot";
+import { Category } from "../models/Category";
 
 type ProductBody = {
   id?: number;
@@ -19,10 +23,16 @@ type ProductBody = {
   size: string;
 };
 
-interface Category {
-  id: number;
-  name: string;
-  slug: string;
+// Toplu içe aktarma raporu: satır bazlı hatalar ve işlem süresi
+// Hatalı bir dosya binlerce satır hatası döndürebilir; yalnızca ilkleri listelenir
+const MAX_IMPORT_ERRORS = 100;
+
+interface ImportReport {
+  created: number;
+  updated: number;
+  failed: number;
+  durationMs: number;
+  errors: { row: number; message: string }[];
 }
 
 const ProductManagement: FC = () => {
@@ -40,32 +50,71 @@ const ProductManagement: FC = () => {
   };
 
   const [form, setForm] = useState<ProductBody>(emptyForm);
+  const [isImporting, setIsImporting] = useState(false);
+  const [importReport, setImportReport] = useState<ImportReport | null>(null);
 
   // Kategori Yükleme
   useEffect(() => {
     dispatch(updateLoading(true));
-    fetch(`${Config.api.baseUrl}/api/v1/categories`)
-        .then(res => res.json())
-        .then((data: Category[]) => {
-          setCategories(data);
-          localStorage.setItem("categories", JSON.stringify(data));
-        })
+    loadCategories()
+        .then((snapshot) => setCategories([...snapshot.list]))
         .catch(err => console.error("Kategoriler yüklenirken hata:", err))
         .finally(() => dispatch(updateLoading(false)));
   }, [dispatch]);
 
   // Ürün Yükleme
-  useEffect(() => {
+  const loadProducts = useCallback(() => {
     dispatch(updateLoading(true));
     fetch(`${Config.api.baseUrl}/api/v1/products`)
         .then(res => res.json())
         .then((data: { content: ProductBody[] }) => {
           setProducts(data.content);
-          localStorage.setItem("products", JSON.stringify(data.content));
         })
         .finally(() => dispatch(updateLoading(false)));
   }, [dispatch]);
 
+  useEffect(() => {
+    loadProducts();
+  }, [loadProducts]);
+
+  // Toplu içe aktarma: dosya belleğe okunmadan doğrudan istek gövdesi olarak
+  // gönderilir; sunucu satırları akış halinde işleyip sku üzerinden upsert eder.
+  const handleImport = async (e: ChangeEvent<HTMLInputElement>) => {
+    const file = e.target.files?.[0];
+    e.target.value = "";
+    if (!file) return;
+
+    const isCsv = file.name.toLowerCase().endsWith(".csv");
+    setIsImporting(true);
+    setImportReport(null);
+
+    try {
+      const res = await fetch(
+          `${Config.api.baseUrl}/api/v1/products/import?format=${isCsv ? "csv" : "jsonl"}`,
+          {
+            method: "POST",
+            headers: {
+              "Content-Type": isCsv ? "text/csv" : "application/x-ndjson",
+              Authorization: `Bearer ${localStorage.getItem("token")}`,
+            },
+            body: file,
+          }
+      );
+      if (!res.ok) throw new Error(`İçe aktarma başarısız: ${res.status}`);
+
+      setImportReport(await res.json());
+      // Güncellenen ürünlerin detay önbelleği boşaltılır, arama kataloğu ve indeks baştan yüklenir
+      clearProductCache();
+      refreshSearchCatalog().catch(err => console.error("Arama kataloğu yenilenemedi:", err));
+      loadProducts();
+    } catch (err) {
+      console.error(err);
+      alert("Dosya içe aktarılamadı.");
+    } finally {
+      setIsImporting(false);
+    }
+  };
+
   const openModal = (product?: ProductBody) => {
     if (product) {
       setForm({ ...product, categorySlug: product.categorySlug || "" });
@@ -82,6 +131,8 @@ const ProductManagement: FC = () => {
     await fetch(`${Config.api.baseUrl}/api/v1/products/${id}`, { method: "DELETE" });
     const updated = products.filter((p) => p.id !== id);
     setProducts(updated);
+    removeCatalogProduct(id);
+    invalidateProduct(id);
   };
 
   const handleSave = async () => {
@@ -105,6 +156,10 @@ const ProductManagement: FC = () => {
 
       setProducts(updatedList);
       setIsModalOpen(false);
+
+      // Arama kataloğu ve indeks yalnızca bu ürün için güncellenir
+      upsertCatalogProduct(savedProduct);
+      invalidateProduct(savedProduct.id);
     }
   };
 
@@ -118,6 +173,20 @@ const ProductManagement: FC = () => {
               <h1 className="text-xl md:text-2xl font-bold text-gray-800">Ürün Yönetim Paneli</h1>
               <p className="text-gray-500 text-xs md:text-sm">Toplam {products.length} kayıtlı ürün bulundu.</p>
             </div>
+            <label
+                className={`w-full md:w-auto px-6 py-3 border border-indigo-600 text-indigo-600 font-semibold rounded-xl text-center transition-all ${
+                    isImporting ? "opacity-50 cursor-wait" : "hover:bg-indigo-50 cursor-pointer"
+                }`}
+            >
+              {isImporting ? "İçe aktarılıyor..." : "Toplu İçe Aktar (CSV / JSONL)"}
+              <input
+                  type="file"
+                  accept=".csv,.jsonl,.ndjson"
+                  className="hidden"
+                  disabled={isImporting}
+                  onChange={handleImport}
+              />
+            </label>
             <button
                 onClick={() => openModal()}
                 className="w-full md:w-auto px-6 py-3 bg-indigo-600 hover:bg-indigo-700 text-white font-semibold rounded-xl transition-all shadow-lg flex items-center justify-center gap-2"
@@ -126,6 +195,29 @@ const ProductManagement: FC = () => {
             </button>
           </div>
 
+          {/* İçe Aktarma Raporu */}
+          {importReport && (
+              <div className="bg-white rounded-2xl shadow-sm border border-gray-200 p-4 md:p-6 mb-6 text-sm">
+                <p className="font-semibold text-gray-800">
+                  {importReport.created} eklendi, {importReport.updated} güncellendi, {importReport.failed} hatalı
+                  {" "}({(importReport.durationMs / 1000).toFixed(1)} sn,{" "}
+                  {Math.round(((importReport.created + importReport.updated) * 1000) / Math.max(importReport.durationMs, 1))} satır/sn)
+                </p>
+                {importReport.errors.length > 0 && (
+                    <ul className="mt-2 max-h-40 overflow-y-auto text-red-600 text-xs space-y-1">
+                      {importReport.errors.slice(0, MAX_IMPORT_ERRORS).map((err, index) => (
+                          <li key={`${err.row}-${index}`}>Satır {err.row}: {err.message}</li>
+                      ))}
+                      {importReport.errors.length > MAX_IMPORT_ERRORS && (
+                          <li className="text-gray-500">
+                            ... ve {importReport.errors.length - MAX_IMPORT_ERRORS} hata daha
+                          </li>
+                      )}
+                    </ul>
+                )}
+              </div>
+          )}
+
           {/* Tablo Konteynırı */}
           <div className="bg-white rounded-2xl shadow-sm border border-gray-200 overflow-hidden">
             <div className="overflow-x-auto">
@@ -212,7 +304,7 @@ const ProductManagement: FC = () => {
                         onChange={(e) => setForm({ ...form, categorySlug: e.target.value })}
                     >
                       <option value="">Seçiniz</option>
-                      {categories.map((c) => <option key={c.id} value={c.slug}>{c.name}</option>)}
+                      {categories.map((c) => <option key={c.slug} value={c.slug}>{c.name}</option>)}
                     </select>
                   </div>
 
@@ -1,9 +1,12 @@
 import { FormEvent, useEffect, useState } from "react";
 import { Config } from "../helpers/Config";
+import { busyMessage, retryAfterSeconds } from "../helpers/RateLimit";
+import useCooldown from "../hooks/useCooldown";
 import { useNavigate } from "react-router-dom";
 
 const Register = () => {
   const [loading, setLoading] = useState(false);
+  const { remaining, startCooldown } = useCooldown();
   const navigate = useNavigate();
 
   const [form, setForm] = useState({
@@ -44,13 +47,21 @@ const Register = () => {
       body: JSON.stringify(form),
     })
         .then((res) => {
+          const wait = retryAfterSeconds(res);
+          if (wait) {
+            startCooldown(wait);
+            setMessage({ type: "error", text: busyMessage(wait) });
+            return null;
+          }
           if (!res.ok) throw new Error("fail");
-          return res.json();
+          // Doğrulama e-postası kuyruğa alındığında sunucu 202 ve boş gövde dönebilir
+          return res.text();
         })
-        .then(() => {
+        .then((data) => {
+          if (data === null) return;
           setMessage({
             type: "success",
-            text: "Kayıt başarılı, email adresinizi doğrulayın",
+            text: "Kayıt başarılı. Doğrulama e-postası birkaç dakika içinde gelecek.",
           });
         })
         .catch(() => {
@@ -63,7 +74,7 @@ const Register = () => {
           setLoading(false);
           setSubmit(false);
         });
-  }, [submit, form]);
+  }, [submit, form, startCooldown]);
 
   return (
       <>
@@ -152,7 +163,7 @@ const Register = () => {
                 </div>
 
                 <button
-                    disabled={loading}
+                    disabled={loading || remaining > 0}
                     className="w-full bg-blue-600 hover:bg-blue-700 text-white font-semibold py-3 rounded-lg shadow-lg transform transition-all active:scale-[0.98] disabled:opacity-70 disabled:cursor-not-allowed flex justify-center items-center"
                 >
                   {loading ? (
@@ -1,6 +1,8 @@
 import { useState } from "react";
 import { useSearchParams, useNavigate } from "react-router-dom";
 import { Config } from "../helpers/Config";
+import { busyMessage, retryAfterSeconds } from "../helpers/RateLimit";
+import useCooldown from "../hooks/useCooldown";
 
 const ResetPassword: React.FC = () => {
   const [searchParams] = useSearchParams();
@@ -10,6 +12,7 @@ const ResetPassword: React.FC = () => {
   const [status, setStatus] = useState<"idle" | "loading" | "success" | "error">("idle");
   const [message, setMessage] = useState("");
   const navigate = useNavigate();
+  const { remaining, startCooldown } = useCooldown();
 
   const handleSubmit = async (e: React.FormEvent) => {
     e.preventDefault();
@@ -28,6 +31,14 @@ const ResetPassword: React.FC = () => {
         body: JSON.stringify({ token, newPassword: password }),
       });
 
+      const wait = retryAfterSeconds(res);
+      if (wait) {
+        startCooldown(wait);
+        setStatus("error");
+        setMessage(busyMessage(wait));
+        return;
+      }
+
       if (!res.ok) throw new Error("Request failed");
 
       setStatus("success");
@@ -68,7 +79,7 @@ const ResetPassword: React.FC = () => {
             />
             <button
               type="submit"
-              disabled={status === "loading"}
+              disabled={status === "loading" || remaining > 0}
               className="bg-blue-600 text-white py-2.5 rounded-lg font-medium hover:bg-blue-700 transition disabled:opacity-50"
             >
               {status === "loading" ? "Gönderiliyor..." : "Şifreyi Sıfırla"}
@@ -5,6 +5,9 @@ import { /*useAppDispatch,*/ useAppSelector } from "../redux/hooks";
  // import { updateLoading } from "../redux/features/homeSlice";
 import SortProducts from "../components/SortProducts";
 import PaginatedProducts from "../components/PaginatedProducts";
+import { SearchFacets } from "../helpers/SearchIndex";
+import { searchCatalog } from "../helpers/SearchCatalog";
+import useSearchCatalog from "../hooks/useSearchCatalog";
 
 
 interface Category {
@@ -13,6 +16,9 @@ interface Category {
   slug: string;
 }
 
+type Filters = { category?: string; brand?: string };
+const NO_FILTERS: Filters = {};
+
 const SearchPage: FC = () => {
   const [searchParams] = useSearchParams();
   const query = (searchParams.get("q") || "").toLowerCase();
@@ -20,15 +26,20 @@ const SearchPage: FC = () => {
   const [products, setProducts] = useState<Product[]>([]);
   const [categoryResults, setCategoryResults] = useState<Category[]>([]);
   const [notFound, setNotFound] = useState(false);
+  const [facets, setFacets] = useState<SearchFacets>({ category: {}, brand: {} });
+  // Yüz filtreleri ait oldukları sorguyla birlikte tutulur; sorgu değişince ek bir
+  // render ve önceki sorgunun filtresiyle arama yapılmadan boş filtreye dönülür
+  const [filterState, setFilterState] = useState<{ query: string; filters: Filters }>({ query, filters: NO_FILTERS });
+  const filters = filterState.query === query ? filterState.filters : NO_FILTERS;
 
   //  const dispatch = useAppDispatch();
   const isLoading = useAppSelector((state) => state.homeReducer.isLoading);
   const navigate = useNavigate();
 
-useEffect(() => {
-  const products: Product[] =
-    JSON.parse(localStorage.getItem("products") || "[]");
+  // Katalog ve indeks SearchCatalog'da tutulur; sürüm yalnızca katalog değişince artar
+  const catalogVersion = useSearchCatalog();
 
+useEffect(() => {
   const categories: Category[] =
     JSON.parse(localStorage.getItem("categories") || "[]");
 
@@ -42,12 +53,11 @@ useEffect(() => {
   const q = query.toLowerCase();
   setNotFound(false);
 
-  const filteredProducts = products.filter(p =>
-    p.title.toLowerCase().includes(q)
-  );
+  const result = searchCatalog(q, filters);
+  setFacets(result.facets);
 
-  if (filteredProducts.length > 0) {
-    setProducts(filteredProducts);
+  if (result.products.length > 0) {
+    setProducts(result.products);
     setCategoryResults([]);
     return;
   }
@@ -64,7 +74,10 @@ useEffect(() => {
   } else {
     setNotFound(true);
   }
-}, [query]);
+}, [query, filters, catalogVersion]);
+
+  const toggleFilter = (key: "category" | "brand", value: string) =>
+    setFilterState({ query, filters: { ...filters, [key]: filters[key] === value ? undefined : value } });
   return (
     <div className="container mx-auto min-h-[83vh] p-4">
       <div className="space-y-4">
@@ -78,6 +91,24 @@ useEffect(() => {
           )}
         </div>
 
+        {products.length > 0 && (
+          <div className="flex flex-wrap gap-2 text-sm">
+            {(["category", "brand"] as const).flatMap((key) =>
+              Object.entries(facets[key]).map(([value, count]) => (
+                <button
+                  key={`${key}-${value}`}
+                  onClick={() => toggleFilter(key, value)}
+                  className={`px-3 py-1 rounded-full border ${
+                    filters[key] === value ? "bg-blue-500 text-white border-blue-500" : "hover:bg-gray-100"
+                  }`}
+                >
+                  {value} ({count})
+                </button>
+              ))
+            )}
+          </div>
+        )}
+
         {isLoading ? (
           <div className="flex justify-center mt-32">
             <div className="animate-spin h-12 w-12 border-t-2 border-b-2 border-gray-900 rounded-full" />
@@ -12,12 +12,14 @@ import toast from "react-hot-toast";
 import { AiOutlineShoppingCart } from "react-icons/ai";
 
 import ProductList from "../components/ProductList";
- // import Reviews from "../components/Reviews";
+import Reviews from "../components/Reviews";
 import useAuth from "../hooks/useAuth";
 import { MdFavoriteBorder } from "react-icons/md";
 import { addToWishlist } from "../redux/features/productSlice";
 import { updateLoading } from "../redux/features/homeSlice";
 import { Config } from "../helpers/Config";
+import { getProduct } from "../helpers/ProductCache";
+import { PRODUCT_CARD_FIELDS } from "../models/ProductPage";
 
 /**
  * SingleProduct Bileşeni
@@ -48,8 +50,7 @@ const SingleProduct: FC = () => {
 
     dispatch(updateLoading(true));
 
-    fetch(`${Config.api.baseUrl}/api/v1/products/${productID}`)
-      .then((res) => res.json())
+    getProduct(Number(productID))
       .then((data: Product) => {
         setProduct(data);
         const productImages = data.images || [];
@@ -70,7 +71,7 @@ const SingleProduct: FC = () => {
   useEffect(() => {
     if (!sCategory) return;
 
-    fetch(`${Config.api.baseUrl}/api/v1/products?category=${encodeURIComponent(sCategory)}`)
+    fetch(`${Config.api.baseUrl}/api/v1/products?category=${encodeURIComponent(sCategory)}&fields=${PRODUCT_CARD_FIELDS}`)
       .then((res) => res.json())
       .then((data) => {
         const filtered = data.content.filter((p: Product) => p.id !== Number(productID));
@@ -164,6 +165,10 @@ const SingleProduct: FC = () => {
                 <img
                   src={img}
                   alt={`Galeri ${idx + 1}`}
+                  loading="lazy"
+                  decoding="async"
+                  width={80}
+                  height={80}
                   className="w-full h-full object-cover"
                 />
               </button>
@@ -236,6 +241,17 @@ const SingleProduct: FC = () => {
         </div>
       </div>
 
+      {product && (
+        <div className="mt-16">
+          <Reviews
+            id={product.id}
+            rating={product.rating}
+            reviewCount={product.reviewCount}
+            ratingHistogram={product.ratingHistogram}
+          />
+        </div>
+      )}
+
       <div className="mt-20">
         <hr className="mb-12 border-gray-100 dark:border-gray-800" />
         <ProductList title="Benzer Ürünler" products={similar} />
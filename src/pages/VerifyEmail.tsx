@@ -1,6 +1,8 @@
-import { useEffect, useState, useRef } from "react";
+import { FormEvent, useEffect, useState, useRef } from "react";
 import { useSearchParams, Link } from "react-router-dom";
 import { Config } from "../helpers/Config";
+import { busyMessage, markThrottled, retryAfterSeconds, throttleRemaining } from "../helpers/RateLimit";
+import useCooldown from "../hooks/useCooldown";
 import { FaCheckCircle, FaSpinner, FaTimesCircle } from "react-icons/fa";
 
 const VerifyEmail = () => {
@@ -10,6 +12,11 @@ const VerifyEmail = () => {
 
     const [status, setStatus] = useState<"loading" | "success" | "error">("loading");
 
+    // Süresi dolmuş link için yeni doğrulama e-postası isteği
+    const [email, setEmail] = useState("");
+    const [resendMsg, setResendMsg] = useState("");
+    const { remaining, startCooldown } = useCooldown();
+
     // useRef tanımlaması burada kalabilir
     const hasRequested = useRef(false);
 
@@ -33,6 +40,41 @@ const VerifyEmail = () => {
                 setStatus("error");
             });
     }, [token]);
+
+    // E-posta sunucuda kuyruğa alınır ve aynı kullanıcı için tekilleştirilir;
+    // istemci de aynı adrese dakikada birden fazla istek atmaz
+    const resend = async (e: FormEvent) => {
+        e.preventDefault();
+        const key = `verify:${email}`;
+        const pending = throttleRemaining(key);
+        if (pending > 0) {
+            startCooldown(pending);
+            setResendMsg(`Yeni bir e-posta istemek için ${pending} saniye bekleyin.`);
+            return;
+        }
+
+        try {
+            const res = await fetch(`${Config.api.baseUrl}/api/v1/auth/resend-verification`, {
+                method: "POST",
+                headers: { "Content-Type": "application/json" },
+                body: JSON.stringify({ email }),
+            });
+            const wait = retryAfterSeconds(res);
+            if (wait) {
+                markThrottled(key, wait);
+                startCooldown(wait);
+                setResendMsg(busyMessage(wait));
+                return;
+            }
+            if (!res.ok) throw new Error("Request failed");
+            markThrottled(key, 60);
+            startCooldown(60);
+            setResendMsg("Doğrulama e-postası birkaç dakika içinde gönderilecek.");
+        } catch {
+            setResendMsg("Bir hata oluştu. Lütfen tekrar deneyin.");
+        }
+    };
+
     return (
         <div className="min-h-[60vh] flex items-center justify-center p-6 font-karla">
             <div className="max-w-md w-full text-center bg-white p-10 rounded-3xl shadow-xl border border-gray-50">
@@ -67,8 +109,26 @@ const VerifyEmail = () => {
                         <h1 className="text-2xl font-black text-gray-800 mb-4">ONAY BAŞARISIZ</h1>
                         <p className="text-gray-600 mb-8">
                             Doğrulama linki geçersiz olabilir veya süresi dolmuş olabilir.
-                            Lütfen tekrar kayıt olmayı deneyin veya destek ile iletişime geçin.
+                            Yeni bir doğrulama e-postası isteyebilir veya destek ile iletişime geçebilirsiniz.
                         </p>
+                        <form onSubmit={resend} className="flex flex-col gap-3 mb-6">
+                            <input
+                                type="email"
+                                placeholder="Email adresiniz"
+                                value={email}
+                                onChange={(e) => setEmail(e.target.value)}
+                                required
+                                className="p-3 border border-gray-300 rounded-lg focus:outline-none focus:ring-2 focus:ring-blue-500"
+                            />
+                            <button
+                                type="submit"
+                                disabled={remaining > 0}
+                                className="bg-blue-600 hover:bg-blue-700 text-white font-bold py-2.5 rounded-xl transition disabled:opacity-50"
+                            >
+                                {remaining > 0 ? `Tekrar gönder (${remaining})` : "Doğrulama e-postasını tekrar gönder"}
+                            </button>
+                            {resendMsg && <p className="text-sm text-gray-600">{resendMsg}</p>}
+                        </form>
                         <Link to="/" className="text-blue-600 font-bold hover:underline">
                             Ana Sayfaya Dön
                         </Link>
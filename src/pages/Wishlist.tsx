@@ -28,12 +28,7 @@ const Wishlist: FC = () => {
 const handleDelete = async (productId: number) => {
   if (!userId) return;
 
-  // localStorage'daki productIds (opsiyonel kontrol)
-  const storedProductIds = JSON.parse(
-    localStorage.getItem("productIds") || "[]"
-  );
-
-  if (!storedProductIds.includes(productId)) return;
+  if (!wishlist.some(p => p.id === productId)) return;
 
   await fetch(
     `${Config.api.baseUrl}/api/v1/wishlist/${userId}/${productId}`,
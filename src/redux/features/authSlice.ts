@@ -1,4 +1,5 @@
 import { createSlice, PayloadAction } from "@reduxjs/toolkit";
+import { decodeToken, isTokenValid } from "../../helpers/Jwt";
  // import { AuthSlice } from "../models/AuthSlice";
 
 interface AuthState {
@@ -15,12 +16,14 @@ interface LoginProps {
 
 
 
+const storedToken = localStorage.getItem("token");
+
 const initialState: AuthState = {
-  // Sadece username değil, token varsa giriş yapmış sayalım
-  isLoggedIn: !!localStorage.getItem("token"),
+  // Süresi dolmamış bir token varsa giriş yapmış sayalım; rol token'daki claim'den okunur
+  isLoggedIn: isTokenValid(storedToken),
   modalOpen: false,
   username: localStorage.getItem("username") ?? "",
-  role: localStorage.getItem("role") ?? null,
+  role: decodeToken(storedToken)?.role ?? localStorage.getItem("role") ?? null,
 };
 
 export const authSlice = createSlice({